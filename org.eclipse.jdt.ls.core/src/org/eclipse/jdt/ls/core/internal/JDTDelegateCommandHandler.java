@@ -113,6 +113,8 @@ public class JDTDelegateCommandHandler implements IDelegateCommandHandler {
 				}
 				case "java.project.isTestFile":
 					return ProjectCommand.isTestFile((String) arguments.get(0));
+				case "java.project.isTestFiles":
+					return ProjectCommand.isTestFiles((ArrayList<String>) arguments.get(0));
 				case "java.project.getAll":
 					if (!arguments.isEmpty()) {
 						GetAllProjectOptions option = JSONUtility.toModel(arguments.get(0), GetAllProjectOptions.class);
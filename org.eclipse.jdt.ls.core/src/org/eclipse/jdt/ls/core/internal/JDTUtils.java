@@ -194,7 +194,7 @@ public final class JDTUtils {
 			return null;
 		}
 
-		IFile resource = (IFile) findResource(uri, ResourcesPlugin.getWorkspace().getRoot()::findFilesForLocationURI);
+		IFile resource = findFile(uri);
 		if(resource != null) {
 			return resolveCompilationUnit(resource);
 		} else {
@@ -207,17 +207,19 @@ public final class JDTUtils {
 			if(!ProjectUtils.isJavaProject(resource.getProject())){
 				return null;
 			}
-			for (ICompilationUnit workingCopy : JavaCore.getWorkingCopies(null)) {
-				if (resource.equals(workingCopy.getResource())) {
-					return workingCopy;
-				}
-			}
+			ICompilationUnit unit = null;
 			if (resource.getFileExtension() != null) {
 				String name = resource.getName();
 				if (org.eclipse.jdt.internal.core.util.Util.isJavaLikeFileName(name)) {
-					return JavaCore.createCompilationUnitFrom(resource);
+					unit = JavaCore.createCompilationUnitFrom(resource);
+					if (unit != null && unit.isWorkingCopy()) {
+						return unit;
+					}
 				}
 			}
+			// the working copy may have been created from another handle of the same file
+			ICompilationUnit workingCopy = UriResolutionCache.instance().getWorkingCopy(resource);
+			return workingCopy != null ? workingCopy : unit;
 		}
 
 		return null;
@@ -312,6 +314,7 @@ public final class JDTUtils {
 			try {
 				createFolders(file.getParent(), monitor);
 				file.createLink(uri, IResource.REPLACE, monitor);
+				UriResolutionCache.instance().invalidate(uri);
 			} catch (CoreException e) {
 				String errMsg = "Failed to create linked resource from " + uri + " to " + project.getName();
 				JavaLanguageServerPlugin.logException(errMsg, e);
@@ -1118,7 +1121,14 @@ public final class JDTUtils {
 	}
 
 	public static IFile findFile(String uriString) {
-		return (IFile) findResource(toURI(uriString), ResourcesPlugin.getWorkspace().getRoot()::findFilesForLocationURI);
+		return findFile(toURI(uriString));
+	}
+
+	private static IFile findFile(URI uri) {
+		if (uri == null || !"file".equals(uri.getScheme())) {
+			return null;
+		}
+		return UriResolutionCache.instance().getFile(uri, u -> (IFile) findResource(u, ResourcesPlugin.getWorkspace().getRoot()::findFilesForLocationURI));
 	}
 
 	public static ISchedulingRule getRule(String uri) {
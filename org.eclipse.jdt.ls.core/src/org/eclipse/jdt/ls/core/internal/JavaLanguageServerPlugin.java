@@ -55,6 +55,7 @@ import org.eclipse.jdt.ls.core.internal.corext.template.java.JavaLanguageServerT
 import org.eclipse.jdt.ls.core.internal.handlers.CompletionContributionService;
 import org.eclipse.jdt.ls.core.internal.handlers.JDTLanguageServer;
 import org.eclipse.jdt.ls.core.internal.handlers.LogHandler;
+import org.eclipse.jdt.ls.core.internal.javadoc.ArchivePool;
 import org.eclipse.jdt.ls.core.internal.managers.ContentProviderManager;
 import org.eclipse.jdt.ls.core.internal.managers.DigestStore;
 import org.eclipse.jdt.ls.core.internal.managers.ISourceDownloader;
@@ -395,6 +396,10 @@ public class JavaLanguageServerPlugin extends Plugin {
 		JavaLanguageServerPlugin.pluginInstance = null;
 		JavaLanguageServerPlugin.context = null;
 		ResourcesPlugin.getWorkspace().removeSaveParticipant(IConstants.PLUGIN_ID);
+		ArchivePool.instance().closeAll();
+		if (logHandler != null) {
+			logHandler.uninstall();
+		}
 		projectsManager = null;
 		contentProviderManager = null;
 		languageServer = null;
@@ -353,7 +353,9 @@ public final class JobHelpers {
 
 		@Override
 		public boolean matches(Job job) {
-			return ("org.eclipse.m2e.jdt.internal.DownloadSourcesJob".equals(job.getClass().getName()));
+			// the sources are requested by the discovery job
+			return ("org.eclipse.m2e.jdt.internal.DownloadSourcesJob".equals(job.getClass().getName())
+					|| "org.eclipse.jdt.ls.core.internal.managers.MavenSourceDownloader$SourceDiscoveryJob".equals(job.getClass().getName()));
 		}
 
 	}
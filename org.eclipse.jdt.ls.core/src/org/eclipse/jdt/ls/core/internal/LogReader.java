@@ -20,6 +20,8 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.text.DateFormat;
 import java.text.ParseException;
@@ -32,6 +34,7 @@ import java.util.Date;
 import java.util.List;
 import java.util.Locale;
 import java.util.StringTokenizer;
+import java.util.function.Consumer;
 
 /**
  * Copied from org.eclipse.ui.internal.views.log.LogReader
@@ -45,35 +48,71 @@ public class LogReader {
 	private static final int TEXT_STATE = 60;
 	private static final int UNKNOWN_STATE = 70;
 
-	public static List<LogEntry> parseLogFile(File file, String lastEntryDateString) {
-		List<LogEntry> tmp = new ArrayList<>();
-		List<LogEntry> entries = new ArrayList<>();
-		Date lastEntryDate = null;
-		try {
-			lastEntryDate = DateFormat.getDateTimeInstance(DateFormat.MEDIUM, DateFormat.MEDIUM).parse(lastEntryDateString);
-		} catch (ParseException e) {
-		}
+	// upper bound of the chunks read backwards when looking for the last session
+	private static final int SEARCH_BUFFER_SIZE = 64 * 1024;
+	private static final byte[] SESSION_MARKER = LogSession.SESSION.getBytes(StandardCharsets.UTF_8);
 
+	public static List<LogEntry> parseLogFile(File file, String lastEntryDateString) {
 		if (!file.exists()) {
 			return null;
 		}
+		List<LogEntry> entries = new ArrayList<>();
+		readLastSession(file, lastEntryDateString, Integer.MAX_VALUE, Long.MAX_VALUE, entries::add);
+		return entries;
+	}
 
-		ArrayList<LogEntry> parents = new ArrayList<>();
-		LogEntry current = null;
-		LogSession session = null;
-		int writerState = UNKNOWN_STATE;
-		StringWriter swriter = null;
-		PrintWriter writer = null;
-		int state = UNKNOWN_STATE;
-		LogSession currentSession = null;
-		try (BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8))) {
+	/**
+	 * Streams the entries of the last session of the log file that are older
+	 * than the given date to the consumer, as soon as each one is complete.
+	 * Only the tail of the file starting at the last <code>!SESSION</code>
+	 * marker is read, and never more than <code>maxBytes</code> bytes.
+	 *
+	 * @param file
+	 *            the log file
+	 * @param lastEntryDateString
+	 *            the date (DateFormat MEDIUM) of the first entry that must not
+	 *            be read anymore, or <code>null</code> to read all the entries
+	 * @param maxEntries
+	 *            the maximum number of entries passed to the consumer
+	 * @param maxBytes
+	 *            the maximum number of bytes read from the end of the file
+	 * @param consumer
+	 *            the entry consumer
+	 * @return the number of entries passed to the consumer
+	 */
+	public static int readLastSession(File file, String lastEntryDateString, int maxEntries, long maxBytes, Consumer<LogEntry> consumer) {
+		if (!file.isFile() || maxEntries <= 0) {
+			return 0;
+		}
+		Date lastEntryDate = null;
+		if (lastEntryDateString != null) {
+			try {
+				lastEntryDate = DateFormat.getDateTimeInstance(DateFormat.MEDIUM, DateFormat.MEDIUM).parse(lastEntryDateString);
+			} catch (ParseException e) {
+			}
+		}
+
+		int count = 0;
+		try (FileInputStream in = new FileInputStream(file)) {
+			long offset = findLastSessionOffset(in.getChannel(), maxBytes);
+			in.getChannel().position(offset);
+			BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+			LogSession session = null;
+			LogEntry current = null;
+			LogEntry pending = null;
+			ArrayList<LogEntry> parents = new ArrayList<>();
+			int writerState = UNKNOWN_STATE;
+			StringWriter swriter = null;
+			PrintWriter writer = null;
+			// when the tail does not start at a session marker, skip the partial entry
+			boolean skipping = offset > 0;
 			for (;;) {
 				String line0 = reader.readLine();
 				if (line0 == null) {
 					break;
 				}
 				String line = line0.trim();
-
+				int state;
 				if (line.startsWith(LogSession.SESSION)) {
 					state = SESSION_STATE;
 				} else if (line.startsWith("!ENTRY")) { //$NON-NLS-1$
@@ -88,6 +127,13 @@ public class LogReader {
 					state = TEXT_STATE;
 				}
 
+				if (skipping) {
+					if (state != SESSION_STATE && state != ENTRY_STATE) {
+						continue;
+					}
+					skipping = false;
+				}
+
 				if (state == TEXT_STATE) {
 					if (writer != null) {
 						if (swriter.getBuffer().length() > 0) {
@@ -106,6 +152,14 @@ public class LogReader {
 					writer = null;
 				}
 
+				if ((state == SESSION_STATE || state == ENTRY_STATE) && pending != null) {
+					consumer.accept(pending);
+					pending = null;
+					if (++count >= maxEntries) {
+						return count;
+					}
+				}
+
 				switch (state) {
 					case STACK_STATE:
 						swriter = new StringWriter();
@@ -118,20 +172,19 @@ public class LogReader {
 						swriter = new StringWriter();
 						writer = new PrintWriter(swriter, true);
 						writerState = SESSION_STATE;
-						currentSession = updateCurrentSession(currentSession, session);
 						break;
 					case ENTRY_STATE:
-						if (currentSession == null) { // create fake session if there was no any
-							currentSession = new LogSession();
+						if (session == null) { // create fake session if there was no any
+							session = new LogSession();
 						}
 						try {
 							LogEntry entry = new LogEntry();
-							entry.setSession(currentSession);
+							entry.setSession(session);
 							entry.processEntry(line);
 							setNewParent(parents, entry, 0);
 							current = entry;
-							if (current.getDate().before(lastEntryDate)) {
-								addEntry(current, tmp);
+							if (lastEntryDate == null || current.getDate().before(lastEntryDate)) {
+								pending = current;
 							}
 						} catch (IllegalArgumentException pe) {
 							//do nothing, just toss the entry
@@ -168,20 +221,61 @@ public class LogReader {
 						break;
 				}
 			}
-		} catch (IOException e) { // do nothing
-		} finally {
 			if (writer != null) {
 				setData(current, session, writerState, swriter);
 				writer.close();
 			}
+			if (pending != null) {
+				consumer.accept(pending);
+				count++;
+			}
+		} catch (IOException e) { // do nothing
+		}
+		return count;
+	}
+
+	/**
+	 * Answers the offset of the last line starting with <code>!SESSION</code>
+	 * within the last <code>maxBytes</code> bytes, or the offset where those
+	 * bytes start if there is none.
+	 */
+	private static long findLastSessionOffset(FileChannel channel, long maxBytes) throws IOException {
+		long size = channel.size();
+		long lowerBound = Math.max(0, size - maxBytes);
+		ByteBuffer buffer = ByteBuffer.allocate(SEARCH_BUFFER_SIZE + SESSION_MARKER.length);
+		long end = size;
+		while (end > lowerBound) {
+			long start = Math.max(lowerBound, end - SEARCH_BUFFER_SIZE);
+			// overlap the next chunk so that a marker across the boundary is found
+			int length = (int) (Math.min(size, end + SESSION_MARKER.length) - start);
+			buffer.clear().limit(length);
+			while (buffer.hasRemaining() && channel.read(buffer, start + buffer.position()) >= 0) {
+				// read the whole chunk
+			}
+			byte[] bytes = buffer.array();
+			for (int i = (int) (end - start) - 1; i >= 0; i--) {
+				if (i + SESSION_MARKER.length <= buffer.position() && matchesAt(bytes, i, SESSION_MARKER)
+						&& ((start + i) == 0 || (i > 0 ? bytes[i - 1] == '\n' : isNewLineBefore(channel, start)))) {
+					return start + i;
+				}
+			}
+			end = start;
 		}
+		return lowerBound;
+	}
 
-		for (LogEntry e : tmp) {
-			if (e.getSession().equals(currentSession)) {
-				entries.add(e);
+	private static boolean matchesAt(byte[] bytes, int offset, byte[] pattern) {
+		for (int j = 0; j < pattern.length; j++) {
+			if (bytes[offset + j] != pattern[j]) {
+				return false;
 			}
 		}
-		return entries;
+		return true;
+	}
+
+	private static boolean isNewLineBefore(FileChannel channel, long offset) throws IOException {
+		ByteBuffer previous = ByteBuffer.allocate(1);
+		return channel.read(previous, offset - 1) == 1 && previous.get(0) == '\n';
 	}
 
 	/**
@@ -203,35 +297,6 @@ public class LogReader {
 		}
 	}
 
-	/**
-	 * Updates the currentSession to be the one that is not null or has most recent
-	 * date.
-	 */
-	private static LogSession updateCurrentSession(LogSession currentSession, LogSession session) {
-		if (currentSession == null) {
-			return session;
-		}
-		Date currentDate = currentSession.getDate();
-		Date sessionDate = session.getDate();
-		if (currentDate == null && sessionDate != null) {
-			return session;
-		} else if (currentDate != null && sessionDate == null) {
-			return session;
-		} else if (currentDate != null && sessionDate != null && sessionDate.after(currentDate)) {
-			return session;
-		}
-
-		return currentSession;
-	}
-
-	/**
-	 * Adds entry to the list if it's not filtered. Removes entries exceeding the
-	 * count limit.
-	 */
-	private static void addEntry(LogEntry entry, List<LogEntry> entries) {
-		entries.add(entry);
-	}
-
 	private static void setNewParent(ArrayList<LogEntry> parents, LogEntry entry, int depth) {
 		if (depth + 1 > parents.size()) {
 			parents.add(entry);
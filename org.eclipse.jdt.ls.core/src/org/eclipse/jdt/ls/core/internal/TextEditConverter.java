@@ -21,9 +21,12 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.internal.core.util.SimpleDocument;
+import org.eclipse.jdt.ls.core.internal.handlers.JsonRpcHelpers;
 import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IDocument;
 import org.eclipse.lsp4j.AnnotatedTextEdit;
+import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.TextDocumentEdit;
 import org.eclipse.lsp4j.VersionedTextDocumentIdentifier;
 import org.eclipse.text.edits.CopySourceEdit;
@@ -53,6 +56,12 @@ public class TextEditConverter extends TextEditVisitor {
 	private String changeAnnotation;
 	protected ICompilationUnit compilationUnit;
 	protected List<org.eclipse.lsp4j.TextEdit> converted;
+	/**
+	 * Snapshot of the unit contents and its line table, shared by all the
+	 * edits of one conversion.
+	 */
+	private IDocument document;
+	private String contents;
 
 	public TextEditConverter(ICompilationUnit unit, TextEdit edit) {
 		this.source = edit;
@@ -93,7 +102,7 @@ public class TextEditConverter extends TextEditVisitor {
 		try {
 			org.eclipse.lsp4j.TextEdit te = this.createTextEdit(this.changeAnnotation);
 			te.setNewText(edit.getText());
-			te.setRange(JDTUtils.toRange(compilationUnit, edit.getOffset(), edit.getLength()));
+			te.setRange(toRange(edit.getOffset(), edit.getLength()));
 			converted.add(te);
 		} catch (JavaModelException e) {
 			JavaLanguageServerPlugin.logException("Error converting TextEdits", e);
@@ -109,8 +118,8 @@ public class TextEditConverter extends TextEditVisitor {
 		try {
 			if (edit.getTargetEdit() != null) {
 				org.eclipse.lsp4j.TextEdit te = this.createTextEdit(this.changeAnnotation);
-				te.setRange(JDTUtils.toRange(compilationUnit, edit.getOffset(), edit.getLength()));
-				Document doc = new Document(compilationUnit.getSource());
+				te.setRange(toRange(edit.getOffset(), edit.getLength()));
+				Document doc = new Document(getSource());
 				edit.apply(doc, TextEdit.UPDATE_REGIONS);
 				String content = doc.get(edit.getOffset(), edit.getLength());
 				if (edit.getSourceModifier() != null) {
@@ -134,7 +143,7 @@ public class TextEditConverter extends TextEditVisitor {
 		try {
 			org.eclipse.lsp4j.TextEdit te = this.createTextEdit(this.changeAnnotation);
 			te.setNewText("");
-			te.setRange(JDTUtils.toRange(compilationUnit, edit.getOffset(), edit.getLength()));
+			te.setRange(toRange(edit.getOffset(), edit.getLength()));
 			converted.add(te);
 		} catch (JavaModelException e) {
 			JavaLanguageServerPlugin.logException("Error converting TextEdits", e);
@@ -149,8 +158,8 @@ public class TextEditConverter extends TextEditVisitor {
 	public boolean visit(MultiTextEdit edit) {
 		try {
 			org.eclipse.lsp4j.TextEdit te = this.createTextEdit(this.changeAnnotation);
-			te.setRange(JDTUtils.toRange(compilationUnit, edit.getOffset(), edit.getLength()));
-			Document doc = new Document(compilationUnit.getSource());
+			te.setRange(toRange(edit.getOffset(), edit.getLength()));
+			Document doc = new Document(getSource());
 			edit.apply(doc, TextEdit.UPDATE_REGIONS);
 			String content = doc.get(edit.getOffset(), edit.getLength());
 			te.setNewText(content);
@@ -170,7 +179,7 @@ public class TextEditConverter extends TextEditVisitor {
 		try {
 			org.eclipse.lsp4j.TextEdit te = this.createTextEdit(this.changeAnnotation);
 			te.setNewText(edit.getText());
-			te.setRange(JDTUtils.toRange(compilationUnit, edit.getOffset(), edit.getLength()));
+			te.setRange(toRange(edit.getOffset(), edit.getLength()));
 			converted.add(te);
 		} catch (JavaModelException e) {
 			JavaLanguageServerPlugin.logException("Error converting TextEdits", e);
@@ -189,9 +198,9 @@ public class TextEditConverter extends TextEditVisitor {
 		try {
 			if (edit.getSourceEdit() != null) {
 				org.eclipse.lsp4j.TextEdit te = this.createTextEdit(this.changeAnnotation);
-				te.setRange(JDTUtils.toRange(compilationUnit, edit.getOffset(), edit.getLength()));
+				te.setRange(toRange(edit.getOffset(), edit.getLength()));
 
-				Document doc = new Document(compilationUnit.getSource());
+				Document doc = new Document(getSource());
 				edit.apply(doc, TextEdit.UPDATE_REGIONS);
 				String content = doc.get(edit.getSourceEdit().getOffset(), edit.getSourceEdit().getLength());
 
@@ -222,7 +231,7 @@ public class TextEditConverter extends TextEditVisitor {
 			if (edit.getParent() != null && edit.getTargetEdit() != null && edit.getParent().equals(edit.getTargetEdit().getParent())) {
 				org.eclipse.lsp4j.TextEdit te = this.createTextEdit(this.changeAnnotation);
 				te.setNewText("");
-				te.setRange(JDTUtils.toRange(compilationUnit, edit.getOffset(), edit.getLength()));
+				te.setRange(toRange(edit.getOffset(), edit.getLength()));
 				converted.add(te);
 				return false;
 			}
@@ -243,9 +252,9 @@ public class TextEditConverter extends TextEditVisitor {
 		try {
 			if (edit.getSourceEdit() != null) {
 				org.eclipse.lsp4j.TextEdit te = this.createTextEdit(this.changeAnnotation);
-				te.setRange(JDTUtils.toRange(compilationUnit, edit.getOffset(), edit.getLength()));
+				te.setRange(toRange(edit.getOffset(), edit.getLength()));
 
-				Document doc = new Document(compilationUnit.getSource());
+				Document doc = new Document(getSource());
 				edit.apply(doc, TextEdit.UPDATE_REGIONS);
 				String content = doc.get(edit.getSourceEdit().getOffset(), edit.getSourceEdit().getLength());
 				if (edit.getSourceEdit().getSourceModifier() != null) {
@@ -280,6 +289,24 @@ public class TextEditConverter extends TextEditVisitor {
 		return subDocument.get();
 	}
 
+	/**
+	 * Computes the range of an edit from the line table of the unit, which is
+	 * built once per converter instead of once per edit.
+	 */
+	private Range toRange(int offset, int length) throws JavaModelException {
+		if (document == null) {
+			document = JsonRpcHelpers.toDocument(compilationUnit.getBuffer());
+		}
+		return JDTUtils.toRange(document, offset, length);
+	}
+
+	private String getSource() throws JavaModelException {
+		if (contents == null) {
+			contents = compilationUnit.getSource();
+		}
+		return contents;
+	}
+
 	private org.eclipse.lsp4j.TextEdit createTextEdit(String changeAnnotation) {
 		if (changeAnnotation == null) {
 			return new org.eclipse.lsp4j.TextEdit();
@@ -0,0 +1,175 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.JavaCore;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Caches the resolution of document URIs to workspace files, including the
+ * URIs that do not map to any file, and indexes the primary working copies by
+ * their file.
+ *
+ * The files are forgotten as soon as a resource is added or removed, or a
+ * project is opened or closed, since any of these can change the file a
+ * location maps to. The working copies are tracked from the
+ * {@link IJavaElementDelta#F_PRIMARY_WORKING_COPY} deltas, that are reported
+ * when a document is opened or closed.
+ */
+public class UriResolutionCache {
+
+	private static final int MAX_URIS = 2000;
+
+	private static final int RESOURCE_SET_CHANGED = IResourceDelta.ADDED | IResourceDelta.REMOVED;
+
+	private final Cache<URI, Optional<IFile>> files = CacheBuilder.newBuilder().maximumSize(MAX_URIS).build();
+
+	private final Map<IFile, ICompilationUnit> workingCopies = new ConcurrentHashMap<>();
+
+	/**
+	 * Incremented on each invalidation, so that a resolution racing with it is
+	 * not cached.
+	 */
+	private final AtomicLong generation = new AtomicLong();
+
+	private static class InstanceHolder {
+		public static UriResolutionCache instance = new UriResolutionCache();
+	}
+
+	private UriResolutionCache() {
+		ResourcesPlugin.getWorkspace().addResourceChangeListener(event -> {
+			if (event.getDelta() != null && affectsLocations(event.getDelta())) {
+				generation.incrementAndGet();
+				files.invalidateAll();
+			}
+		}, IResourceChangeEvent.POST_CHANGE);
+		JavaCore.addElementChangedListener(event -> processDelta(event.getDelta()), ElementChangedEvent.POST_CHANGE);
+		for (ICompilationUnit workingCopy : JavaCore.getWorkingCopies(null)) {
+			addWorkingCopy(workingCopy);
+		}
+	}
+
+	public static UriResolutionCache instance() {
+		return InstanceHolder.instance;
+	}
+
+	/**
+	 * Returns the file the URI resolves to, or <code>null</code> if it does not
+	 * map to any file of the workspace.
+	 *
+	 * @param uri
+	 *            the file URI
+	 * @param resolver
+	 *            computes the file when the URI is not cached yet
+	 */
+	public IFile getFile(URI uri, Function<URI, IFile> resolver) {
+		Optional<IFile> cached = files.getIfPresent(uri);
+		// a file deleted within a workspace operation is resolved again, before its delta is reported
+		if (cached != null && (cached.isEmpty() || cached.get().exists())) {
+			return cached.orElse(null);
+		}
+		long resolvedGeneration = generation.get();
+		IFile file = resolver.apply(uri);
+		if (resolvedGeneration == generation.get()) {
+			files.put(uri, Optional.ofNullable(file));
+		}
+		return file;
+	}
+
+	/**
+	 * Forgets the file the URI resolves to.
+	 */
+	public void invalidate(URI uri) {
+		generation.incrementAndGet();
+		files.invalidate(uri);
+	}
+
+	/**
+	 * Returns the primary working copy of the file, or <code>null</code> if the
+	 * file isn't opened.
+	 */
+	public ICompilationUnit getWorkingCopy(IFile file) {
+		ICompilationUnit workingCopy = workingCopies.get(file);
+		if (workingCopy != null && !workingCopy.isWorkingCopy()) {
+			workingCopies.remove(file, workingCopy);
+			return null;
+		}
+		return workingCopy;
+	}
+
+	private void addWorkingCopy(ICompilationUnit workingCopy) {
+		IResource resource = workingCopy.getResource();
+		if (resource instanceof IFile file) {
+			workingCopies.put(file, workingCopy);
+		}
+	}
+
+	private void processDelta(IJavaElementDelta delta) {
+		IJavaElement element = delta.getElement();
+		if (element.getElementType() == IJavaElement.COMPILATION_UNIT) {
+			if ((delta.getFlags() & IJavaElementDelta.F_PRIMARY_WORKING_COPY) != 0) {
+				ICompilationUnit unit = (ICompilationUnit) element;
+				if (unit.isWorkingCopy()) {
+					addWorkingCopy(unit);
+				} else if (unit.getResource() instanceof IFile file) {
+					workingCopies.remove(file, unit);
+				}
+			}
+			return;
+		}
+		if (element.getElementType() > IJavaElement.PACKAGE_FRAGMENT) {
+			return;
+		}
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			processDelta(child);
+		}
+	}
+
+	private static boolean affectsLocations(IResourceDelta delta) {
+		boolean[] affected = new boolean[1];
+		try {
+			delta.accept(child -> {
+				if (affected[0]) {
+					return false;
+				}
+				if ((child.getKind() & RESOURCE_SET_CHANGED) != 0 || (child.getFlags() & (IResourceDelta.OPEN | IResourceDelta.DESCRIPTION)) != 0) {
+					affected[0] = true;
+					return false;
+				}
+				return true;
+			});
+		} catch (CoreException e) {
+			return true;
+		}
+		return affected[0];
+	}
+}
@@ -22,7 +22,6 @@ import java.util.Map;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.Status;
-import org.eclipse.jdt.core.IBuffer;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.JavaCore;
@@ -32,6 +31,7 @@ import org.eclipse.jdt.ls.core.internal.JavaLanguageServerPlugin;
 import org.eclipse.jdt.ui.cleanup.CleanUpContext;
 import org.eclipse.lsp4j.TextDocumentIdentifier;
 import org.eclipse.lsp4j.TextEdit;
+import org.eclipse.text.edits.MultiTextEdit;
 
 /**
  * Represents a store of all the clean ups that can be performed on save in
@@ -117,31 +117,92 @@ public class CleanUpRegistry {
 		List<TextEdit> textEdits = new ArrayList<>();
 		ICompilationUnit cu = context.getCompilationUnit();
 
+		ICompilationUnit wc = null;
 		try {
-			ICompilationUnit wc = cu.getWorkingCopy(monitor);
+			wc = cu.getWorkingCopy(monitor);
+			// Edits of clean ups that touch disjoint ranges are computed on the same AST
+			// and applied together. The unit is only reparsed when the next clean up
+			// conflicts with the pending edits.
+			List<org.eclipse.text.edits.TextEdit> pendingEdits = new ArrayList<>();
 			for (ISimpleCleanUp cleanUp : cleanUpsToRun) {
-				org.eclipse.text.edits.TextEdit jdtEdit = CleanUpUtils.getTextEditFromCleanUp(cleanUp, context, monitor);
-				if (jdtEdit != null) {
-					wc.applyTextEdit(jdtEdit, monitor);
+				if (cleanUp instanceof OrganizeImportsCleanup && !pendingEdits.isEmpty()) {
+					// organizing imports depends on all the type references of the unit
+					applyEdits(wc, pendingEdits, monitor);
 					context = CleanUpUtils.getCleanUpContext(wc, opts, monitor);
 				}
+				List<org.eclipse.text.edits.TextEdit> edits = flatten(CleanUpUtils.getTextEditFromCleanUp(cleanUp, context, monitor));
+				if (!edits.isEmpty() && overlaps(pendingEdits, edits)) {
+					applyEdits(wc, pendingEdits, monitor);
+					context = CleanUpUtils.getCleanUpContext(wc, opts, monitor);
+					edits = flatten(CleanUpUtils.getTextEditFromCleanUp(cleanUp, context, monitor));
+				}
+				pendingEdits.addAll(edits);
 			}
+			applyEdits(wc, pendingEdits, monitor);
 			// https://microsoft.github.io/language-server-protocol/specifications/specification-3-16/#textEditArray
 			// Cleanups may have overlapping text edits but LSP does not support this
-			// Generate text edit as the entire document
-			IBuffer wcBuff = wc.getBuffer();
-			IBuffer cuBuff = cu.getBuffer();
-			String newText = wcBuff.getContents();
-			if (!newText.equals(cuBuff.getContents())) {
-				TextEdit te = new TextEdit(JDTUtils.toRange(cu, 0, cuBuff.getLength()), newText);
-				textEdits.add(te);
-			}
-
+			// Generate the line-level differences between the original and the cleaned up document
+			textEdits.addAll(LineDiff.computeEdits(cu.getBuffer().getContents(), wc.getBuffer().getContents()));
 		} catch (JavaModelException e) {
 			// continue
+		} finally {
+			if (wc != null) {
+				try {
+					wc.discardWorkingCopy();
+				} catch (JavaModelException e) {
+					// ignore
+				}
+			}
 		}
 
 		return textEdits;
 	}
 
+	/**
+	 * Returns the leaf edits of the given edit, detached from their parent. Only
+	 * plain {@link MultiTextEdit}s are flattened, other edits are kept with their
+	 * children.
+	 */
+	private static List<org.eclipse.text.edits.TextEdit> flatten(org.eclipse.text.edits.TextEdit edit) {
+		List<org.eclipse.text.edits.TextEdit> edits = new ArrayList<>();
+		if (edit == null) {
+			return edits;
+		}
+		if (edit.getClass() == MultiTextEdit.class) {
+			for (org.eclipse.text.edits.TextEdit child : edit.removeChildren()) {
+				edits.addAll(flatten(child));
+			}
+		} else {
+			edits.add(edit);
+		}
+		return edits;
+	}
+
+	/**
+	 * Returns whether any of the edits overlaps or touches one of the pending
+	 * edits.
+	 */
+	private static boolean overlaps(List<org.eclipse.text.edits.TextEdit> pendingEdits, List<org.eclipse.text.edits.TextEdit> edits) {
+		for (org.eclipse.text.edits.TextEdit edit : edits) {
+			for (org.eclipse.text.edits.TextEdit pending : pendingEdits) {
+				if (edit.getOffset() <= pending.getExclusiveEnd() && pending.getOffset() <= edit.getExclusiveEnd()) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private static void applyEdits(ICompilationUnit wc, List<org.eclipse.text.edits.TextEdit> edits, IProgressMonitor monitor) throws JavaModelException {
+		if (edits.isEmpty()) {
+			return;
+		}
+		MultiTextEdit root = new MultiTextEdit();
+		for (org.eclipse.text.edits.TextEdit edit : edits) {
+			root.addChild(edit);
+		}
+		edits.clear();
+		wc.applyTextEdit(root, monitor);
+	}
+
 }
@@ -0,0 +1,223 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal.cleanup;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextEdit;
+
+/**
+ * Computes the line-level differences between two versions of a document as
+ * a list of non-overlapping text edits, using the Myers difference algorithm.
+ */
+public final class LineDiff {
+
+	/**
+	 * Upper bound on the number of differing lines the algorithm looks for. Past
+	 * it, the remaining differences are reported as a single edit.
+	 */
+	private static final int MAX_DIFFERENCES = 1000;
+
+	private LineDiff() {
+		//avoid instantiation
+	}
+
+	/**
+	 * Returns the edits that turn <code>oldText</code> into
+	 * <code>newText</code>, replacing whole lines only.
+	 *
+	 * @param oldText
+	 *            the original text
+	 * @param newText
+	 *            the modified text
+	 * @return a non-null list of edits, sorted by position
+	 */
+	public static List<TextEdit> computeEdits(String oldText, String newText) {
+		List<TextEdit> edits = new ArrayList<>();
+		if (oldText.equals(newText)) {
+			return edits;
+		}
+		List<String> oldLines = splitLines(oldText);
+		List<String> newLines = splitLines(newText);
+
+		int prefix = 0;
+		int max = Math.min(oldLines.size(), newLines.size());
+		while (prefix < max && oldLines.get(prefix).equals(newLines.get(prefix))) {
+			prefix++;
+		}
+		int suffix = 0;
+		while (suffix < max - prefix && oldLines.get(oldLines.size() - 1 - suffix).equals(newLines.get(newLines.size() - 1 - suffix))) {
+			suffix++;
+		}
+		List<String> a = oldLines.subList(prefix, oldLines.size() - suffix);
+		List<String> b = newLines.subList(prefix, newLines.size() - suffix);
+
+		char[] script = diff(a, b);
+		int i = 0;
+		int j = 0;
+		int hunkStartA = -1;
+		int hunkStartB = -1;
+		for (char op : script) {
+			if (op == '=') {
+				if (hunkStartA >= 0) {
+					edits.add(createEdit(oldLines, prefix + hunkStartA, prefix + i, b.subList(hunkStartB, j)));
+					hunkStartA = -1;
+				}
+				i++;
+				j++;
+				continue;
+			}
+			if (hunkStartA < 0) {
+				hunkStartA = i;
+				hunkStartB = j;
+			}
+			if (op == '-') {
+				i++;
+			} else {
+				j++;
+			}
+		}
+		if (hunkStartA >= 0) {
+			edits.add(createEdit(oldLines, prefix + hunkStartA, prefix + i, b.subList(hunkStartB, j)));
+		}
+		return edits;
+	}
+
+	/**
+	 * Returns the shortest edit script from <code>a</code> to <code>b</code>,
+	 * one character per step: <code>'='</code> keeps a line, <code>'-'</code>
+	 * removes a line of <code>a</code> and <code>'+'</code> inserts a line of
+	 * <code>b</code>.
+	 */
+	private static char[] diff(List<String> a, List<String> b) {
+		int n = a.size();
+		int m = b.size();
+		int offset = n + m + 1;
+		int[] v = new int[2 * offset + 1];
+		List<int[]> trace = new ArrayList<>();
+		int maxD = Math.min(n + m, MAX_DIFFERENCES);
+		for (int d = 0; d <= maxD; d++) {
+			for (int k = -d; k <= d; k += 2) {
+				int x;
+				if (k == -d || (k != d && v[offset + k - 1] < v[offset + k + 1])) {
+					x = v[offset + k + 1];
+				} else {
+					x = v[offset + k - 1] + 1;
+				}
+				int y = x - k;
+				while (x < n && y < m && a.get(x).equals(b.get(y))) {
+					x++;
+					y++;
+				}
+				v[offset + k] = x;
+				if (x >= n && y >= m) {
+					trace.add(snapshot(v, offset, d));
+					return backtrack(trace, a, b);
+				}
+			}
+			trace.add(snapshot(v, offset, d));
+		}
+		// too many differences, replace everything between the common prefix and suffix
+		char[] script = new char[n + m];
+		for (int i = 0; i < script.length; i++) {
+			script[i] = i < n ? '-' : '+';
+		}
+		return script;
+	}
+
+	private static int[] snapshot(int[] v, int offset, int d) {
+		int[] copy = new int[2 * d + 1];
+		System.arraycopy(v, offset - d, copy, 0, copy.length);
+		return copy;
+	}
+
+	private static char[] backtrack(List<int[]> trace, List<String> a, List<String> b) {
+		int x = a.size();
+		int y = b.size();
+		StringBuilder script = new StringBuilder();
+		for (int d = trace.size() - 1; d > 0; d--) {
+			int[] previous = trace.get(d - 1);
+			int k = x - y;
+			int previousK;
+			if (k == -d || (k != d && previous[k - 1 + d - 1] < previous[k + 1 + d - 1])) {
+				previousK = k + 1;
+			} else {
+				previousK = k - 1;
+			}
+			int previousX = previous[previousK + d - 1];
+			int previousY = previousX - previousK;
+			while (x > previousX && y > previousY) {
+				script.append('=');
+				x--;
+				y--;
+			}
+			script.append(x == previousX ? '+' : '-');
+			x = previousX;
+			y = previousY;
+		}
+		while (x > 0 && y > 0) {
+			script.append('=');
+			x--;
+			y--;
+		}
+		return script.reverse().toString().toCharArray();
+	}
+
+	private static TextEdit createEdit(List<String> oldLines, int startLine, int endLine, List<String> newLines) {
+		Position start = new Position(startLine, 0);
+		Position end;
+		if (oldLines.isEmpty()) {
+			end = start;
+		} else if (endLine < oldLines.size()) {
+			end = new Position(endLine, 0);
+		} else {
+			// the range extends to the end of the document
+			String lastLine = oldLines.get(oldLines.size() - 1);
+			if (lastLine.endsWith("\n") || lastLine.endsWith("\r")) {
+				end = new Position(oldLines.size(), 0);
+			} else {
+				end = new Position(oldLines.size() - 1, lastLine.length());
+			}
+			if (startLine == oldLines.size()) {
+				start = end;
+			}
+		}
+		return new TextEdit(new Range(start, end), String.join("", newLines));
+	}
+
+	/**
+	 * Splits the text into lines, keeping the line delimiters.
+	 */
+	private static List<String> splitLines(String text) {
+		List<String> lines = new ArrayList<>();
+		int start = 0;
+		int length = text.length();
+		for (int i = 0; i < length; i++) {
+			char c = text.charAt(i);
+			if (c == '\r' && i + 1 < length && text.charAt(i + 1) == '\n') {
+				i++;
+			}
+			if (c == '\r' || c == '\n') {
+				lines.add(text.substring(start, i + 1));
+				start = i + 1;
+			}
+		}
+		if (start < length) {
+			lines.add(text.substring(start));
+		}
+		return lines;
+	}
+}
@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal.commands;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.ls.core.internal.commands.ProjectCommand.ClasspathResult;
+
+/**
+ * Caches the launch classpaths resolved for each project and scope, and the
+ * test source folders of each project, for the debug and test tools that query
+ * them for many files in a row.
+ *
+ * Since the launch classpath of a project includes the classpath of the
+ * projects it depends on, everything is dropped whenever the classpath of any
+ * project changes, or a project is added, removed, opened or closed.
+ */
+class ProjectClasspathCache {
+
+	private static final int CLASSPATH_CHANGED_FLAGS = IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED | IJavaElementDelta.F_OPENED | IJavaElementDelta.F_CLOSED;
+
+	private final Map<String, ClasspathResult> classpaths = new ConcurrentHashMap<>();
+
+	private final Map<String, IPath[]> testSourcePaths = new ConcurrentHashMap<>();
+
+	/**
+	 * Incremented on each invalidation, so that a value computed concurrently is
+	 * not cached.
+	 */
+	private final AtomicLong generation = new AtomicLong();
+
+	interface Resolver<T> {
+		T resolve() throws CoreException;
+	}
+
+	private static class InstanceHolder {
+		public static ProjectClasspathCache instance = new ProjectClasspathCache();
+	}
+
+	private ProjectClasspathCache() {
+		JavaCore.addElementChangedListener(event -> {
+			if (affectsClasspaths(event.getDelta())) {
+				generation.incrementAndGet();
+				classpaths.clear();
+				testSourcePaths.clear();
+			}
+		}, ElementChangedEvent.POST_CHANGE);
+	}
+
+	static ProjectClasspathCache instance() {
+		return InstanceHolder.instance;
+	}
+
+	ClasspathResult getClasspaths(IJavaProject javaProject, String scope, Resolver<ClasspathResult> resolver) throws CoreException {
+		String key = javaProject.getElementName() + '\0' + scope;
+		ClasspathResult result = get(classpaths, key, resolver);
+		// the result is mutable, hand out a copy
+		return new ClasspathResult(result.projectRoot, result.classpaths.clone(), result.modulepaths.clone());
+	}
+
+	IPath[] getTestSourcePaths(IJavaProject javaProject, Resolver<IPath[]> resolver) throws JavaModelException {
+		try {
+			return get(testSourcePaths, javaProject.getElementName(), resolver);
+		} catch (JavaModelException e) {
+			throw e;
+		} catch (CoreException e) {
+			throw new JavaModelException(e);
+		}
+	}
+
+	private <T> T get(Map<String, T> cache, String key, Resolver<T> resolver) throws CoreException {
+		T value = cache.get(key);
+		if (value == null) {
+			long resolvedGeneration = generation.get();
+			value = resolver.resolve();
+			if (resolvedGeneration == generation.get()) {
+				cache.put(key, value);
+			}
+		}
+		return value;
+	}
+
+	private static boolean affectsClasspaths(IJavaElementDelta delta) {
+		IJavaElement element = delta.getElement();
+		if (element.getElementType() == IJavaElement.JAVA_PROJECT) {
+			return delta.getKind() != IJavaElementDelta.CHANGED || (delta.getFlags() & CLASSPATH_CHANGED_FLAGS) != 0;
+		}
+		if (element.getElementType() != IJavaElement.JAVA_MODEL) {
+			return false;
+		}
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			if (affectsClasspaths(child)) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
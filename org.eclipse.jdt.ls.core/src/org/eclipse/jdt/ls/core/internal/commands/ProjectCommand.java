@@ -414,7 +414,15 @@ public class ProjectCommand {
 		return getClasspathsFromJavaProject(getJavaProjectFromUri(uri), options);
 	}
 
+	/**
+	 * Returns the launch classpaths of the project. They are cached until the
+	 * classpath of a project changes.
+	 */
 	public static ClasspathResult getClasspathsFromJavaProject(IJavaProject javaProject, ClasspathOptions options) throws CoreException, URISyntaxException {
+		return ProjectClasspathCache.instance().getClasspaths(javaProject, options.scope, () -> resolveClasspaths(javaProject, options));
+	}
+
+	private static ClasspathResult resolveClasspaths(IJavaProject javaProject, ClasspathOptions options) throws CoreException {
 		Optional<IBuildSupport> bs = JavaLanguageServerPlugin.getProjectsManager().getBuildSupport(javaProject.getProject());
 		if (!bs.isPresent()) {
 			throw new CoreException(new Status(IStatus.ERROR, IConstants.PLUGIN_ID, "No BuildSupport for the project: " + javaProject.getElementName()));
@@ -461,12 +469,36 @@ public class ProjectCommand {
 		if (javaProject == null) {
 			throw new CoreException(new Status(IStatus.ERROR, IConstants.PLUGIN_ID, "Given URI does not belong to an existing Java project."));
 		}
+		return isTestFile(compilationUnit, javaProject);
+	}
+
+	/**
+	 * Checks which of the input uris are test source files.
+	 *
+	 * @param uris
+	 *                Uris of the source files that need to be queried.
+	 * @return for each uri, in order, <code>true</code> if it is a test file in
+	 *         its belonging project, otherwise <code>false</code>, including when
+	 *         it does not belong to a Java source file.
+	 * @throws CoreException
+	 */
+	public static List<Boolean> isTestFiles(List<String> uris) throws CoreException {
+		List<Boolean> result = new ArrayList<>(uris.size());
+		for (String uri : uris) {
+			ICompilationUnit compilationUnit = JDTUtils.resolveCompilationUnit(uri);
+			IJavaProject javaProject = compilationUnit == null ? null : compilationUnit.getJavaProject();
+			result.add(javaProject != null && isTestFile(compilationUnit, javaProject));
+		}
+		return result;
+	}
+
+	private static boolean isTestFile(ICompilationUnit compilationUnit, IJavaProject javaProject) throws JavaModelException {
 		// Ignore default project
 		if (ProjectsManager.DEFAULT_PROJECT_NAME.equals(javaProject.getProject().getName())) {
 			return false;
 		}
 		final IPath compilationUnitPath = compilationUnit.getPath();
-		for (IPath testpath : listTestSourcePaths(javaProject)) {
+		for (IPath testpath : ProjectClasspathCache.instance().getTestSourcePaths(javaProject, () -> listTestSourcePaths(javaProject))) {
 			if (testpath.isPrefixOf(compilationUnitPath)) {
 				return true;
 			}
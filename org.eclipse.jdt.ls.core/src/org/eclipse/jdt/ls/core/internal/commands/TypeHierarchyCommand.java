@@ -25,17 +25,15 @@ import org.eclipse.jdt.core.IMethod;
 import org.eclipse.jdt.core.IOrdinaryClassFile;
 import org.eclipse.jdt.core.IPackageFragment;
 import org.eclipse.jdt.core.IType;
-import org.eclipse.jdt.core.ITypeHierarchy;
 import org.eclipse.jdt.core.ITypeRoot;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
-import org.eclipse.jdt.internal.core.DefaultWorkingCopyOwner;
-import org.eclipse.jdt.internal.core.JavaModelManager;
 import org.eclipse.jdt.ls.core.internal.JDTUtils;
 import org.eclipse.jdt.ls.core.internal.JDTUtils.LocationType;
 import org.eclipse.jdt.ls.core.internal.JSONUtility;
 import org.eclipse.jdt.ls.core.internal.JavaLanguageServerPlugin;
 import org.eclipse.jdt.ls.core.internal.handlers.DocumentSymbolHandler;
+import org.eclipse.jdt.ls.core.internal.handlers.TypeHierarchyCache;
 import org.eclipse.lsp4j.Location;
 import org.eclipse.lsp4j.Position;
 import org.eclipse.lsp4j.Range;
@@ -219,16 +217,9 @@ public class TypeHierarchyCommand {
 			type = member.getDeclaringType();
 		}
 
-		ITypeHierarchy typeHierarchy;
-		if (direction == TypeHierarchyDirection.Parents) {
-			typeHierarchy = type.newSupertypeHierarchy(DefaultWorkingCopyOwner.PRIMARY, monitor);
-		} else {
-			ICompilationUnit[] workingCopies = JavaModelManager.getJavaModelManager().getWorkingCopies(DefaultWorkingCopyOwner.PRIMARY, true);
-			typeHierarchy = type.newTypeHierarchy(workingCopies, monitor);
-		}
 		if (direction == TypeHierarchyDirection.Children || direction == TypeHierarchyDirection.Both) {
 			List<TypeHierarchyItem> childrenItems = new ArrayList<>();
-			IType[] children = typeHierarchy.getSubtypes(type);
+			IType[] children = TypeHierarchyCache.instance().getSubtypes(type, monitor);
 			for (IType childType : children) {
 				if (monitor.isCanceled()) {
 					return;
@@ -251,7 +242,7 @@ public class TypeHierarchyCommand {
 		}
 		if (direction == TypeHierarchyDirection.Parents || direction == TypeHierarchyDirection.Both) {
 			List<TypeHierarchyItem> parentsItems = new ArrayList<>();
-			IType[] parents = typeHierarchy.getSupertypes(type);
+			IType[] parents = TypeHierarchyCache.instance().getSupertypes(type, monitor);
 			for (IType parentType : parents) {
 				if (monitor.isCanceled()) {
 					return;
@@ -22,6 +22,7 @@ import java.util.List;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.compiler.IProblem;
 import org.eclipse.jdt.core.dom.ASTNode;
 import org.eclipse.jdt.core.dom.CompilationUnit;
@@ -49,6 +50,7 @@ import org.eclipse.jdt.ls.core.internal.JDTUtils;
 import org.eclipse.jdt.ls.core.internal.JavaLanguageServerPlugin;
 import org.eclipse.jdt.ls.core.internal.corrections.ProposalKindWrapper;
 import org.eclipse.jdt.ls.core.internal.handlers.CodeActionHandler;
+import org.eclipse.jdt.ls.core.internal.handlers.ImportedTypesIndex;
 import org.eclipse.jdt.ui.text.java.IInvocationContext;
 import org.eclipse.jdt.ui.text.java.IProblemLocation;
 import org.eclipse.jdt.ui.text.java.correction.ASTRewriteCorrectionProposalCore;
@@ -57,6 +59,20 @@ import org.eclipse.lsp4j.CodeActionKind;
 
 public class UnresolvedElementsSubProcessor extends UnresolvedElementsBaseSubProcessor<ProposalKindWrapper> {
 
+	/**
+	 * The project whose imports rank the candidate types, <code>null</code> if
+	 * they are not ranked.
+	 */
+	private final IJavaProject project;
+
+	public UnresolvedElementsSubProcessor() {
+		this(null);
+	}
+
+	private UnresolvedElementsSubProcessor(IJavaProject project) {
+		this.project = project;
+	}
+
 	public static void getVariableProposals(IInvocationContext context, IProblemLocation problem,
 			IVariableBinding resolvedField, Collection<ProposalKindWrapper> proposals) throws CoreException {
 		new UnresolvedElementsSubProcessor().collectVariableProposals(context, problem, resolvedField, proposals);
@@ -64,7 +80,7 @@ public class UnresolvedElementsSubProcessor extends UnresolvedElementsBaseSubPro
 
 	public static void getTypeProposals(IInvocationContext context, IProblemLocation problem,
 			Collection<ProposalKindWrapper> proposals) throws CoreException {
-		new UnresolvedElementsSubProcessor().collectTypeProposals(context, problem, proposals);
+		new UnresolvedElementsSubProcessor(context.getCompilationUnit().getJavaProject()).collectTypeProposals(context, problem, proposals);
 	}
 
 	public static void addNewTypeProposals(ICompilationUnit cu, Name refNode, int kind, int relevance,
@@ -176,7 +192,12 @@ public class UnresolvedElementsSubProcessor extends UnresolvedElementsBaseSubPro
 	 */
 	@Override
 	protected int getQualifiedTypeNameHistoryBoost(String qualifiedName, int min, int max) {
-		return 0;
+		// the types already imported in the project play the role of the type history
+		int count = ImportedTypesIndex.instance().getImportCount(project, qualifiedName);
+		if (count == 0) {
+			return 0;
+		}
+		return Math.max(min, Math.min(max, min + count));
 	}
 
 	/* (non-Javadoc)
@@ -287,6 +308,10 @@ public class UnresolvedElementsSubProcessor extends UnresolvedElementsBaseSubPro
 
 	@Override
 	public void collectTypeProposals(IInvocationContext context, IProblemLocation problem, Collection<ProposalKindWrapper> proposals) throws CoreException {
+		if (project == null) {
+			new UnresolvedElementsSubProcessor(context.getCompilationUnit().getJavaProject()).collectTypeProposals(context, problem, proposals);
+			return;
+		}
 		// This is a hack because upstream does not behave as we expect.
 		IProblemLocation wrap = new ProblemLocationWrapper(problem) {
 			@Override
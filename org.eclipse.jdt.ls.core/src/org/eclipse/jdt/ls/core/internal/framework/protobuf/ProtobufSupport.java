@@ -15,21 +15,30 @@ package org.eclipse.jdt.ls.core.internal.framework.protobuf;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Stream;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.buildship.core.GradleBuild;
 import org.eclipse.buildship.core.GradleCore;
+import org.eclipse.buildship.core.internal.DefaultGradleBuild;
+import org.eclipse.buildship.core.internal.workspace.FetchStrategy;
+import org.eclipse.buildship.core.internal.workspace.InternalGradleBuild;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -48,6 +57,8 @@ import org.eclipse.jdt.ls.core.internal.framework.IFrameworkSupport;
 import org.eclipse.jdt.ls.core.internal.preferences.PreferenceManager;
 import org.eclipse.lsp4j.Command;
 import org.eclipse.lsp4j.MessageType;
+import org.gradle.tooling.GradleConnector;
+import org.gradle.tooling.model.eclipse.EclipseProject;
 
 public class ProtobufSupport implements IFrameworkSupport {
 
@@ -56,6 +67,17 @@ public class ProtobufSupport implements IFrameworkSupport {
 	 */
 	public static final String PROTOBUF_GENERATED_SOURCE = "protobuf_generated_source";
 
+	private static final String GENERATE_PROTO_TASK = "generateProto";
+	private static final String GENERATE_TEST_PROTO_TASK = "generateTestProto";
+	private static final String PROTO_FILE_EXTENSION = ".proto";
+
+	/**
+	 * The stamps of the proto files of the projects whose Java sources were found
+	 * generated, by project name. The generated directories of such a project are
+	 * not searched again until its proto files change.
+	 */
+	private static final Map<String, Long> generatedProjects = new ConcurrentHashMap<>();
+
 	@Override
 	public void onDidProjectsImported(IProgressMonitor monitor) {
 		PreferenceManager preferencesManager = JavaLanguageServerPlugin.getPreferencesManager();
@@ -83,8 +105,17 @@ public class ProtobufSupport implements IFrameworkSupport {
 				continue;
 			}
 
+			long protoStamp = getProtoFilesStamp(project);
+			Long generatedStamp = generatedProjects.get(project.getName());
+			if (generatedStamp != null && generatedStamp == protoStamp && protobufOutputDirs.stream().anyMatch(File::isDirectory)) {
+				continue;
+			}
+
 			boolean hasGenerated = containsJavaFiles(protobufOutputDirs);
-			if (!hasGenerated) {
+			if (hasGenerated) {
+				generatedProjects.put(project.getName(), protoStamp);
+			} else {
+				generatedProjects.remove(project.getName());
 				projectNames.add(project.getName());
 			}
 		}
@@ -128,27 +159,70 @@ public class ProtobufSupport implements IFrameworkSupport {
 	 */
 	private boolean containsJavaFiles(Set<File> generatedDirectories) {
 		for (File dir : generatedDirectories) {
-			if (!dir.exists()) {
-				return false;
+			if (!dir.isDirectory()) {
+				continue;
 			}
 
-			try (Stream<Path> walkStream = Files.walk(dir.toPath())) {
-				boolean containsJavaFile = walkStream.filter(p -> p.toFile().isFile()).anyMatch(f -> {
-					return JDTUtils.isJavaFile(f);
+			boolean[] containsJavaFile = new boolean[1];
+			try {
+				Files.walkFileTree(dir.toPath(), new SimpleFileVisitor<Path>() {
+					@Override
+					public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+						if (attrs.isRegularFile() && JDTUtils.isJavaFile(file)) {
+							containsJavaFile[0] = true;
+							return FileVisitResult.TERMINATE;
+						}
+						return FileVisitResult.CONTINUE;
+					}
 				});
-
-				if (containsJavaFile) {
-					return true;
-				}
 			} catch (IOException e) {
 				JavaLanguageServerPlugin.logException(e);
 			}
+			if (containsJavaFile[0]) {
+				return true;
+			}
 		}
 		return false;
 	}
 
 	/**
-	 * Run generate proto tasks.
+	 * Compute a stamp of the proto files in the default source directories
+	 * (<code>src/&lt;sourceSet&gt;/proto</code>) of the given project, from their
+	 * number and latest modification time.
+	 * @param project project.
+	 */
+	private long getProtoFilesStamp(IProject project) {
+		File[] sourceSets = project.getLocation().append("src").toFile().listFiles(File::isDirectory);
+		if (sourceSets == null) {
+			return 0;
+		}
+		long[] stamp = new long[2];
+		for (File sourceSet : sourceSets) {
+			File protoDir = new File(sourceSet, "proto");
+			if (!protoDir.isDirectory()) {
+				continue;
+			}
+			try {
+				Files.walkFileTree(protoDir.toPath(), new SimpleFileVisitor<Path>() {
+					@Override
+					public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+						if (file.getFileName().toString().endsWith(PROTO_FILE_EXTENSION)) {
+							stamp[0]++;
+							stamp[1] = Math.max(stamp[1], attrs.lastModifiedTime().toMillis());
+						}
+						return FileVisitResult.CONTINUE;
+					}
+				});
+			} catch (IOException e) {
+				JavaLanguageServerPlugin.logException(e);
+			}
+		}
+		return 31 * stamp[1] + stamp[0];
+	}
+
+	/**
+	 * Run generate proto tasks. The tasks of the projects that belong to the same
+	 * Gradle build are run in a single build.
 	 * @param projectNames the project uris where the tasks will be executed.
 	 * @param monitor progress monitor.
 	 */
@@ -156,18 +230,37 @@ public class ProtobufSupport implements IFrameworkSupport {
 		if (projectNames == null || projectNames.isEmpty()) {
 			return;
 		}
+		Map<File, List<IProject>> projectsByBuild = new LinkedHashMap<>();
+		Map<File, GradleBuild> builds = new HashMap<>();
+		for (String projectName : projectNames) {
+			if (StringUtils.isEmpty(projectName)) {
+				continue;
+			}
+			IProject project = ResourcesPlugin.getWorkspace().getRoot().getProject(projectName);
+			if (project == null || !project.exists()) {
+				continue;
+			}
+			Optional<GradleBuild> build = GradleCore.getWorkspace().getBuild(project);
+			if (build.isEmpty()) {
+				continue;
+			}
+			File rootDirectory = build.get() instanceof DefaultGradleBuild defaultBuild ? defaultBuild.getBuildConfig().getRootProjectDirectory() : project.getLocation().toFile();
+			builds.putIfAbsent(rootDirectory, build.get());
+			projectsByBuild.computeIfAbsent(rootDirectory, k -> new ArrayList<>()).add(project);
+		}
+		if (projectsByBuild.isEmpty()) {
+			return;
+		}
 		JavaLanguageClient client = JavaLanguageServerPlugin.getProjectsManager().getConnection();
 		ProgressReport progressReport = new ProgressReport(UUID.randomUUID().toString());
 		progressReport.setTask("Running Gradle tasks");
 		progressReport.setComplete(false);
-		progressReport.setTotalWork(projectNames.size());
+		progressReport.setTotalWork(projectsByBuild.size());
 		progressReport.setStatus("Generating Java sources from proto files...");
 		client.sendProgressReport(progressReport);
 		try {
-			for (String projectName : projectNames) {
-				if (!StringUtils.isEmpty(projectName)) {
-					 runGenerateProtobufTasks(projectName, monitor);
-				}
+			for (Map.Entry<File, List<IProject>> entry : projectsByBuild.entrySet()) {
+				runGenerateProtobufTasks(builds.get(entry.getKey()), entry.getValue(), monitor);
 				progressReport.setWorkDone(progressReport.getWorkDone() + 1);
 			}
 		} finally {
@@ -177,28 +270,59 @@ public class ProtobufSupport implements IFrameworkSupport {
 	}
 
 	/**
-	 * Run the Gradle task 'generateProto' & 'generateTestProto' for projects with the input name.
-	 * @param projectName name of the project.
+	 * Run the Gradle tasks 'generateProto' & 'generateTestProto' of the given projects in one build.
+	 * The build continues after a task failure, so that a failing project doesn't prevent the
+	 * sources of the other projects from being generated.
+	 * @param build the Gradle build of the projects.
+	 * @param projects the projects.
 	 * @param monitor progress monitor.
 	 */
-	private static void runGenerateProtobufTasks(String projectName, IProgressMonitor monitor) {
-		IProject project = ResourcesPlugin.getWorkspace().getRoot().getProject(projectName);
-		if (project == null || !project.exists()) {
-			return;
-		}
-
-		Optional<GradleBuild> build = GradleCore.getWorkspace().getBuild(project);
-		if (build.isEmpty()) {
-			return;
-		}
-
+	private static void runGenerateProtobufTasks(GradleBuild build, List<IProject> projects, IProgressMonitor monitor) {
 		try {
-			build.get().withConnection(connection -> {
-				connection.newBuild().forTasks("generateProto", "generateTestProto").run();
+			String[] tasks = getGenerateProtobufTasks(build, projects, monitor);
+			build.withConnection(connection -> {
+				connection.newBuild().forTasks(tasks).withArguments("--continue").run();
 				return null;
 			}, monitor);
 		} catch (Exception e) {
 			JavaLanguageServerPlugin.logException(e);
 		}
 	}
+
+	/**
+	 * Get the generate proto task paths qualified with the Gradle paths of the
+	 * projects. If a project can not be mapped to its Gradle path, the task names
+	 * are returned, which selects the tasks of all the projects of the build.
+	 */
+	// public for tests
+	public static String[] getGenerateProtobufTasks(GradleBuild build, List<IProject> projects, IProgressMonitor monitor) {
+		String[] taskNames = new String[] { GENERATE_PROTO_TASK, GENERATE_TEST_PROTO_TASK };
+		if (!(build instanceof InternalGradleBuild internalGradleBuild)) {
+			return taskNames;
+		}
+		Map<File, String> gradlePaths = new HashMap<>();
+		Map<String, EclipseProject> eclipseProjects = internalGradleBuild.getModelProvider().fetchModels(EclipseProject.class, FetchStrategy.LOAD_IF_NOT_CACHED, GradleConnector.newCancellationTokenSource(), monitor);
+		for (EclipseProject eclipseProject : eclipseProjects.values()) {
+			collectGradlePaths(eclipseProject, gradlePaths);
+		}
+		List<String> tasks = new ArrayList<>();
+		for (IProject project : projects) {
+			String gradlePath = gradlePaths.get(project.getLocation().toFile());
+			if (gradlePath == null) {
+				return taskNames;
+			}
+			String prefix = gradlePath.endsWith(":") ? gradlePath : gradlePath + ":";
+			for (String taskName : taskNames) {
+				tasks.add(prefix + taskName);
+			}
+		}
+		return tasks.toArray(String[]::new);
+	}
+
+	private static void collectGradlePaths(EclipseProject eclipseProject, Map<File, String> gradlePaths) {
+		gradlePaths.putIfAbsent(eclipseProject.getProjectDirectory(), eclipseProject.getGradleProject().getPath());
+		for (EclipseProject child : eclipseProject.getChildren()) {
+			collectGradlePaths(child, gradlePaths);
+		}
+	}
 }
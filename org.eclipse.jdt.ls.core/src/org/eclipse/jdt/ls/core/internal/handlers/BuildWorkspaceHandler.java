@@ -36,7 +36,6 @@ import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.jdt.core.IJavaModelMarker;
 import org.eclipse.jdt.ls.core.internal.BuildWorkspaceStatus;
 import org.eclipse.jdt.ls.core.internal.ProjectUtils;
-import org.eclipse.jdt.ls.core.internal.ResourceUtils;
 import org.eclipse.jdt.ls.core.internal.managers.ProjectsManager;
 import org.eclipse.lsp4j.extended.ProjectBuildParams;
 
@@ -70,10 +69,7 @@ public class BuildWorkspaceHandler {
 			IProject[] projects = ProjectUtils.getAllProjects();
 			for (IProject project : projects) {
 				if (!project.equals(ProjectsManager.getDefaultProject())) {
-					List<IMarker> markers = ResourceUtils.getErrorMarkers(project);
-					if (markers != null) {
-						problemMarkers.addAll(markers);
-					}
+					problemMarkers.addAll(ErrorMarkerIndex.instance().getErrorMarkers(project));
 				}
 			}
 			List<String> errors = problemMarkers.stream().filter(m -> m.getAttribute(IMarker.SEVERITY, 0) == IMarker.SEVERITY_ERROR).map(e -> convertMarker(e)).collect(Collectors.toList());
@@ -129,8 +125,7 @@ public class BuildWorkspaceHandler {
 			}
 
 			try {
-				List<IMarker> markers = ResourceUtils.getErrorMarkers(project);
-				if (markers != null && markers.size() > 0) {
+				if (ErrorMarkerIndex.instance().hasErrors(project)) {
 					return BuildWorkspaceStatus.WITH_ERROR;
 				}
 			} catch (CoreException e) {
@@ -21,9 +21,11 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
@@ -31,23 +33,28 @@ import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.jdt.core.ElementChangedEvent;
 import org.eclipse.jdt.core.IClassFile;
 import org.eclipse.jdt.core.ICodeAssist;
 import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
 import org.eclipse.jdt.core.IField;
 import org.eclipse.jdt.core.IInitializer;
 import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
 import org.eclipse.jdt.core.IMember;
 import org.eclipse.jdt.core.IMethod;
 import org.eclipse.jdt.core.IOpenable;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.ITypeRoot;
+import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.internal.corext.callhierarchy.CallHierarchyCore;
 import org.eclipse.jdt.internal.corext.callhierarchy.CallLocation;
 import org.eclipse.jdt.internal.corext.callhierarchy.MethodWrapper;
 import org.eclipse.jdt.ls.core.internal.JDTUtils;
 import org.eclipse.jdt.ls.core.internal.JDTUtils.LocationType;
+import org.eclipse.jdt.ls.core.internal.JSONUtility;
 import org.eclipse.jdt.ls.core.internal.JavaLanguageServerPlugin;
 import org.eclipse.lsp4j.CallHierarchyIncomingCall;
 import org.eclipse.lsp4j.CallHierarchyIncomingCallsParams;
@@ -60,17 +67,116 @@ import org.eclipse.lsp4j.Position;
 import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.SymbolTag;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
 public class CallHierarchyHandler {
-	private static Map<IJavaElement, MethodWrapper> incomingMethodWrapperCache = new ConcurrentHashMap<>();
-	private static Map<IJavaElement, MethodWrapper> outgoingMethodWrapperCache = new ConcurrentHashMap<>();
+	private static final int METHOD_WRAPPER_CACHE_SIZE = 20;
+	// soft values let the JVM reclaim the cached call trees under memory pressure
+	private static Cache<HierarchyKey, Map<IJavaElement, MethodWrapper>> methodWrapperCache = CacheBuilder.newBuilder().maximumSize(METHOD_WRAPPER_CACHE_SIZE).softValues().build();
+	private static IElementChangedListener methodWrapperCacheInvalidator = null;
+
+	/**
+	 * The handle identifier of the member a call hierarchy was prepared on, and
+	 * the direction of its calls. The call trees of a hierarchy are cached under
+	 * it, so that each hierarchy keeps its own parent chains.
+	 */
+	private record HierarchyKey(String root, boolean incoming) {
+	}
+
+	public CallHierarchyHandler() {
+		registerCacheInvalidator();
+	}
+
+	private static synchronized void registerCacheInvalidator() {
+		if (methodWrapperCacheInvalidator == null) {
+			methodWrapperCacheInvalidator = CallHierarchyHandler::invalidateCache;
+			JavaCore.addElementChangedListener(methodWrapperCacheInvalidator, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+		}
+	}
+
+	/**
+	 * Drops the cached calls affected by the changed compilation units: the
+	 * calls of the members they declare, and the calls of the members that have
+	 * a cached call located in them. Any structural change above the
+	 * compilation unit level drops the whole cache.
+	 */
+	private static void invalidateCache(ElementChangedEvent event) {
+		if (methodWrapperCache.size() == 0) {
+			return;
+		}
+		Set<ICompilationUnit> units = new HashSet<>();
+		if (!collectChangedUnits(event.getDelta(), units)) {
+			methodWrapperCache.invalidateAll();
+			return;
+		}
+		if (units.isEmpty()) {
+			return;
+		}
+		for (Map<IJavaElement, MethodWrapper> wrappers : methodWrapperCache.asMap().values()) {
+			List<IJavaElement> staleMembers = new ArrayList<>();
+			for (MethodWrapper wrapper : wrappers.values()) {
+				if (isDeclaredIn(wrapper.getMember(), units)) {
+					staleMembers.add(wrapper.getMember());
+				} else if (wrapper.getParent() != null && hasCallLocationIn(wrapper, units)) {
+					staleMembers.add(wrapper.getParent().getMember());
+				}
+			}
+			staleMembers.forEach(wrappers::remove);
+		}
+	}
+
+	private static boolean hasCallLocationIn(MethodWrapper wrapper, Set<ICompilationUnit> units) {
+		if (wrapper.getMethodCall() != null && wrapper.getMethodCall().getCallLocations() != null) {
+			for (CallLocation location : wrapper.getMethodCall().getCallLocations()) {
+				if (isDeclaredIn(location.getMember(), units)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private static boolean isDeclaredIn(IJavaElement member, Set<ICompilationUnit> units) {
+		IJavaElement unit = member.getAncestor(COMPILATION_UNIT);
+		return unit != null && (units.contains(unit) || units.contains(((ICompilationUnit) unit).getPrimary()));
+	}
+
+	/**
+	 * @return <code>false</code> if the delta contains a change that cannot be
+	 *         mapped to compilation units
+	 */
+	private static boolean collectChangedUnits(IJavaElementDelta delta, Set<ICompilationUnit> units) {
+		IJavaElement element = delta.getElement();
+		switch (element.getElementType()) {
+			case IJavaElement.JAVA_MODEL:
+			case IJavaElement.JAVA_PROJECT:
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+			case IJavaElement.PACKAGE_FRAGMENT:
+				if (delta.getKind() != IJavaElementDelta.CHANGED
+						|| (delta.getFlags() & (IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED | IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED | IJavaElementDelta.F_CLOSED | IJavaElementDelta.F_OPENED)) != 0) {
+					return false;
+				}
+				for (IJavaElementDelta child : delta.getAffectedChildren()) {
+					if (!collectChangedUnits(child, units)) {
+						return false;
+					}
+				}
+				return true;
+			case IJavaElement.COMPILATION_UNIT:
+				ICompilationUnit unit = (ICompilationUnit) element;
+				units.add(unit.getPrimary());
+				return true;
+			case IJavaElement.CLASS_FILE:
+				return true;
+			default:
+				return false;
+		}
+	}
 
 	public List<CallHierarchyItem> prepareCallHierarchy(CallHierarchyPrepareParams params, IProgressMonitor monitor) {
 		Assert.isNotNull(params, "params");
 
-		// trigger call hierarchy at a new position, clean the method wrapper cache.
-		incomingMethodWrapperCache.clear();
-		outgoingMethodWrapperCache.clear();
-
 		String uri = params.getTextDocument().getUri();
 		int line = params.getPosition().getLine();
 		int character = params.getPosition().getCharacter();
@@ -81,7 +187,11 @@ public class CallHierarchyHandler {
 				return null;
 			}
 			checkMonitor(monitor);
-			CallHierarchyItem symbol = toCallHierarchyItem(candidate);
+			// trigger call hierarchy at a new position, clean the method wrapper cache of the previous one.
+			String root = candidate.getHandleIdentifier();
+			methodWrapperCache.invalidate(new HierarchyKey(root, true));
+			methodWrapperCache.invalidate(new HierarchyKey(root, false));
+			CallHierarchyItem symbol = toCallHierarchyItem(candidate, root);
 			return symbol != null ? Arrays.asList(symbol) : Collections.emptyList();
 		} catch (OperationCanceledException e) {
 			// do nothing
@@ -112,7 +222,7 @@ public class CallHierarchyHandler {
 		int character = position.getCharacter();
 
 		try {
-			return getIncomingCallItemsAt(item.getUri(), line, character, monitor);
+			return getIncomingCallItemsAt(item.getUri(), line, character, getRoot(item), monitor);
 		} catch (JavaModelException e) {
 			JavaLanguageServerPlugin.log(e);
 		} catch (OperationCanceledException e) {
@@ -132,7 +242,7 @@ public class CallHierarchyHandler {
 		int character = position.getCharacter();
 
 		try {
-			return getOutgoingCallItemsAt(item.getUri(), line, character, monitor);
+			return getOutgoingCallItemsAt(item.getUri(), line, character, getRoot(item), monitor);
 		} catch (JavaModelException e) {
 			JavaLanguageServerPlugin.log(e);
 		} catch (OperationCanceledException e) {
@@ -182,7 +292,7 @@ public class CallHierarchyHandler {
 		return candidate;
 	}
 
-	private List<CallHierarchyIncomingCall> getIncomingCallItemsAt(String uri, int line, int character, IProgressMonitor monitor) throws JavaModelException {
+	private List<CallHierarchyIncomingCall> getIncomingCallItemsAt(String uri, int line, int character, String root, IProgressMonitor monitor) throws JavaModelException {
 		SubMonitor sub = SubMonitor.convert(monitor, 2);
 		IMember candidate = getCallHierarchyElement(uri, line, character, false, sub.split(1));
 		if (candidate == null) {
@@ -192,8 +302,11 @@ public class CallHierarchyHandler {
 
 		checkMonitor(monitor);
 
-		MethodWrapper wrapper = incomingMethodWrapperCache.containsKey(candidate) ?
-			incomingMethodWrapperCache.get(candidate) : getCallRoot(candidate, true);
+		if (root == null) {
+			root = candidate.getHandleIdentifier();
+		}
+		Map<IJavaElement, MethodWrapper> wrappers = methodWrapperCache.asMap().computeIfAbsent(new HierarchyKey(root, true), key -> new ConcurrentHashMap<>());
+		MethodWrapper wrapper = wrappers.computeIfAbsent(candidate, member -> getCallRoot((IMember) member, true));
 		if (wrapper == null || !wrapper.canHaveChildren()) {
 			return null;
 		}
@@ -214,7 +327,7 @@ public class CallHierarchyHandler {
 				for (CallLocation location : callLocations) {
 					IOpenable openable = getOpenable(location);
 					Range callRange = getRange(openable, location);
-					CallHierarchyItem symbol = toCallHierarchyItem(call.getMember());
+					CallHierarchyItem symbol = toCallHierarchyItem(call.getMember(), root);
 					if (symbol != null) {
 						symbol.setSelectionRange(callRange);
 						List<Range> ranges = toCallRanges(callLocations);
@@ -224,7 +337,7 @@ public class CallHierarchyHandler {
 			}
 			IMember member = call.getMember();
 			if (member != null) {
-				incomingMethodWrapperCache.put(member, call);
+				wrappers.put(member, call);
 			}
 		}
 
@@ -241,7 +354,7 @@ public class CallHierarchyHandler {
 		return callRange;
 	}
 
-	private List<CallHierarchyOutgoingCall> getOutgoingCallItemsAt(String uri, int line, int character, IProgressMonitor monitor) throws JavaModelException {
+	private List<CallHierarchyOutgoingCall> getOutgoingCallItemsAt(String uri, int line, int character, String root, IProgressMonitor monitor) throws JavaModelException {
 		SubMonitor sub = SubMonitor.convert(monitor, 2);
 		IMember candidate = getCallHierarchyElement(uri, line, character, false, sub.split(1));
 		if (candidate == null) {
@@ -251,7 +364,11 @@ public class CallHierarchyHandler {
 
 		checkMonitor(monitor);
 
-		MethodWrapper wrapper = outgoingMethodWrapperCache.containsKey(candidate) ? outgoingMethodWrapperCache.get(candidate) : getCallRoot(candidate, false);
+		if (root == null) {
+			root = candidate.getHandleIdentifier();
+		}
+		Map<IJavaElement, MethodWrapper> wrappers = methodWrapperCache.asMap().computeIfAbsent(new HierarchyKey(root, false), key -> new ConcurrentHashMap<>());
+		MethodWrapper wrapper = wrappers.computeIfAbsent(candidate, member -> getCallRoot((IMember) member, false));
 		if (wrapper == null) {
 			return null;
 		}
@@ -271,7 +388,7 @@ public class CallHierarchyHandler {
 			if (callLocations != null && !callLocations.isEmpty()) {
 				List<Range> ranges = toCallRanges(callLocations);
 				for (int i = 0; i < callLocations.size(); i++) {
-					CallHierarchyItem symbol = toCallHierarchyItem(call.getMember());
+					CallHierarchyItem symbol = toCallHierarchyItem(call.getMember(), root);
 					if (symbol != null) {
 						result.add(new CallHierarchyOutgoingCall(symbol, ranges));
 					}
@@ -279,7 +396,7 @@ public class CallHierarchyHandler {
 			}
 			IMember member = call.getMember();
 			if (member != null) {
-				outgoingMethodWrapperCache.put(member, call);
+				wrappers.put(member, call);
 			}
 		}
 
@@ -310,7 +427,15 @@ public class CallHierarchyHandler {
 		return result[0];
 	}
 
-	private CallHierarchyItem toCallHierarchyItem(IMember member) throws JavaModelException {
+	/**
+	 * Returns the handle identifier of the member the hierarchy of the item was
+	 * prepared on, or <code>null</code> if the client didn't preserve it.
+	 */
+	private static String getRoot(CallHierarchyItem item) {
+		return JSONUtility.toModel(item.getData(), String.class);
+	}
+
+	private CallHierarchyItem toCallHierarchyItem(IMember member, String root) throws JavaModelException {
 		Location fullLocation = getLocation(member, LocationType.FULL_RANGE);
 		if (fullLocation == null) {
 			return null;
@@ -328,6 +453,7 @@ public class CallHierarchyHandler {
 		if (JDTUtils.isDeprecated(member)) {
 			item.setTags(Arrays.asList(SymbolTag.Deprecated));
 		}
+		item.setData(root);
 
 		return item;
 	}
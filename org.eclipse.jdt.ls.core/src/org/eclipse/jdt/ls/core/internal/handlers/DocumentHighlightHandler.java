@@ -15,11 +15,20 @@ package org.eclipse.jdt.ls.core.internal.handlers;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.jdt.core.ITypeRoot;
 import org.eclipse.jdt.core.dom.ASTNode;
 import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.IBinding;
+import org.eclipse.jdt.core.dom.IMethodBinding;
+import org.eclipse.jdt.core.dom.ITypeBinding;
+import org.eclipse.jdt.core.dom.IVariableBinding;
+import org.eclipse.jdt.core.dom.ImportDeclaration;
+import org.eclipse.jdt.core.dom.Name;
 import org.eclipse.jdt.core.dom.NodeFinder;
 import org.eclipse.jdt.core.manipulation.CoreASTProvider;
 import org.eclipse.jdt.internal.core.manipulation.search.BreakContinueTargetFinder;
@@ -36,11 +45,22 @@ import org.eclipse.lsp4j.Position;
 import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.TextDocumentPositionParams;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
 /**
  * Handler for {@code textDocument/documentHighlight} requests.
  */
 public class DocumentHighlightHandler {
 
+	/**
+	 * The highlights found by {@link OccurrencesFinder} on the recent ASTs, by
+	 * binding key. The shared AST is only replaced when its document changes, so
+	 * moving the caret between the occurrences of an element does not search the
+	 * AST again.
+	 */
+	private static final Cache<CompilationUnit, Map<String, List<DocumentHighlight>>> occurrencesByAst = CacheBuilder.newBuilder().weakKeys().maximumSize(4).build();
+
 	/**
 	 * Handles a {@code textDocument/documentHighlight} request.
 	 *
@@ -119,14 +139,62 @@ public class DocumentHighlightHandler {
 			return Collections.emptyList();
 		}
 
+		String key = getOccurrencesKey(node);
+		Map<String, List<DocumentHighlight>> occurrences = key == null ? null : getOccurrencesIndex(ast);
+		if (occurrences != null) {
+			List<DocumentHighlight> highlights = occurrences.get(key);
+			if (highlights != null) {
+				return new ArrayList<>(highlights);
+			}
+		}
 		finder = new OccurrencesFinder();
 		if (finder.initialize(ast, node) == null) {
-			return convertToHighlights(ast, finder.getOccurrences());
+			List<DocumentHighlight> highlights = convertToHighlights(ast, finder.getOccurrences());
+			if (occurrences != null) {
+				occurrences.put(key, new ArrayList<>(highlights));
+			}
+			return highlights;
 		}
 
 		return Collections.emptyList();
 	}
 
+	private static Map<String, List<DocumentHighlight>> getOccurrencesIndex(CompilationUnit ast) {
+		try {
+			return occurrencesByAst.get(ast, ConcurrentHashMap::new);
+		} catch (ExecutionException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Returns the key of the element whose occurrences {@link OccurrencesFinder}
+	 * searches for the given node, or <code>null</code> if there is none.
+	 */
+	private static String getOccurrencesKey(ASTNode node) {
+		if (!(node instanceof Name name)) {
+			return null;
+		}
+		IBinding binding = name.resolveBinding();
+		if (binding instanceof IVariableBinding variableBinding) {
+			binding = variableBinding.getVariableDeclaration();
+		} else if (binding instanceof IMethodBinding methodBinding) {
+			binding = methodBinding.getMethodDeclaration();
+		} else if (binding instanceof ITypeBinding typeBinding) {
+			binding = typeBinding.getTypeDeclaration();
+		}
+		if (binding == null || binding.getKey() == null) {
+			return null;
+		}
+		// the occurrences of a method selected in a static import include the possible static imports
+		ASTNode parent = name.getParent();
+		while (parent instanceof Name) {
+			parent = parent.getParent();
+		}
+		boolean staticImport = parent instanceof ImportDeclaration importDeclaration && importDeclaration.isStatic();
+		return staticImport ? "static:" + binding.getKey() : binding.getKey();
+	}
+
 	private static List<DocumentHighlight> convertToHighlights(CompilationUnit ast, OccurrenceLocation[] locations) {
 		if (locations == null || locations.length == 0) {
 			return Collections.emptyList();
@@ -148,13 +216,25 @@ public class DocumentHighlightHandler {
 			highlight.setKind(DocumentHighlightKind.Read);
 		}
 
-		int[] startPos = JsonRpcHelpers.toLine(ast.getTypeRoot(), occurrence.getOffset());
-		int[] endPos = JsonRpcHelpers.toLine(ast.getTypeRoot(), occurrence.getOffset() + occurrence.getLength());
 		highlight.setRange(new Range(
-			new Position(startPos[0], startPos[1]),
-			new Position(endPos[0], endPos[1])
+			toPosition(ast, occurrence.getOffset()),
+			toPosition(ast, occurrence.getOffset() + occurrence.getLength())
 		));
 		return highlight;
 	}
 
+	/**
+	 * Converts an offset using the line table of the AST, rather than the buffer
+	 * of the type root.
+	 */
+	private static Position toPosition(CompilationUnit ast, int offset) {
+		int line = ast.getLineNumber(offset);
+		int column = ast.getColumnNumber(offset);
+		if (line < 1 || column < 0) {
+			int[] position = JsonRpcHelpers.toLine(ast.getTypeRoot(), offset);
+			return new Position(position[0], position[1]);
+		}
+		return new Position(line - 1, column);
+	}
+
 }
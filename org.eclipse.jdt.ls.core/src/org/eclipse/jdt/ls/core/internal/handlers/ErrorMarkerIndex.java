@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal.handlers;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.internal.resources.Workspace;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IMarkerDelta;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.jdt.ls.core.internal.ResourceUtils;
+
+/**
+ * Keeps the error markers of each project up to date from the marker deltas,
+ * so that the status of a build is known without querying all the markers of
+ * the workspace.
+ *
+ * A project is queried once, the first time its errors are requested, and is
+ * then only updated from the deltas. It is forgotten when it is removed,
+ * opened or closed.
+ */
+class ErrorMarkerIndex {
+
+	private final Map<IProject, Set<IMarker>> errors = new HashMap<>();
+
+	private static class InstanceHolder {
+		public static ErrorMarkerIndex instance = new ErrorMarkerIndex();
+	}
+
+	private ErrorMarkerIndex() {
+		ResourcesPlugin.getWorkspace().addResourceChangeListener(this::resourceChanged, IResourceChangeEvent.POST_CHANGE);
+	}
+
+	static ErrorMarkerIndex instance() {
+		return InstanceHolder.instance;
+	}
+
+	/**
+	 * Returns the error markers of the project and its resources.
+	 */
+	List<IMarker> getErrorMarkers(IProject project) throws CoreException {
+		if (isInWorkspaceOperation()) {
+			// the deltas of the changes made so far are only reported once the operation ends
+			List<IMarker> markers = ResourceUtils.getErrorMarkers(project);
+			return markers == null ? new ArrayList<>() : markers;
+		}
+		synchronized (this) {
+			Set<IMarker> markers = errors.get(project);
+			if (markers == null) {
+				markers = new LinkedHashSet<>();
+				if (project.isAccessible()) {
+					markers.addAll(ResourceUtils.getErrorMarkers(project));
+					errors.put(project, markers);
+				}
+			}
+			return new ArrayList<>(markers);
+		}
+	}
+
+	/**
+	 * Returns whether the project or its resources have errors.
+	 */
+	boolean hasErrors(IProject project) throws CoreException {
+		return !getErrorMarkers(project).isEmpty();
+	}
+
+	private synchronized void resourceChanged(IResourceChangeEvent event) {
+		IResourceDelta delta = event.getDelta();
+		if (delta == null || errors.isEmpty()) {
+			return;
+		}
+		for (IResourceDelta child : delta.getAffectedChildren()) {
+			if (child.getKind() != IResourceDelta.CHANGED || (child.getFlags() & IResourceDelta.OPEN) != 0) {
+				errors.remove(child.getResource());
+			}
+		}
+		for (IMarkerDelta markerDelta : event.findMarkerDeltas(null, true)) {
+			Set<IMarker> markers = errors.get(markerDelta.getResource().getProject());
+			if (markers == null) {
+				continue;
+			}
+			IMarker marker = markerDelta.getMarker();
+			if (isError(markerDelta)) {
+				markers.add(marker);
+			} else {
+				markers.remove(marker);
+			}
+		}
+	}
+
+	private static boolean isError(IMarkerDelta markerDelta) {
+		switch (markerDelta.getKind()) {
+		case IResourceDelta.ADDED:
+			return markerDelta.getAttribute(IMarker.SEVERITY, 0) == IMarker.SEVERITY_ERROR;
+		case IResourceDelta.CHANGED:
+			// the delta holds the attributes from before the change
+			IMarker marker = markerDelta.getMarker();
+			return marker.exists() && marker.getAttribute(IMarker.SEVERITY, 0) == IMarker.SEVERITY_ERROR;
+		default:
+			return false;
+		}
+	}
+
+	private static boolean isInWorkspaceOperation() throws CoreException {
+		return ((Workspace) ResourcesPlugin.getWorkspace()).getWorkManager().isLockAlreadyAcquired();
+	}
+}
@@ -14,11 +14,13 @@ package org.eclipse.jdt.ls.core.internal.handlers;
 
 import static java.util.stream.Collectors.toMap;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -27,12 +29,19 @@ import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.ToolFactory;
 import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
+import org.eclipse.jdt.core.dom.Block;
+import org.eclipse.jdt.core.dom.BodyDeclaration;
 import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.Initializer;
+import org.eclipse.jdt.core.dom.MethodDeclaration;
 import org.eclipse.jdt.core.dom.NodeFinder;
 import org.eclipse.jdt.core.formatter.CodeFormatter;
 import org.eclipse.jdt.core.formatter.DefaultCodeFormatterConstants;
 import org.eclipse.jdt.core.manipulation.CoreASTProvider;
 import org.eclipse.jdt.internal.compiler.env.IModule;
+import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
 import org.eclipse.jdt.internal.corext.refactoring.util.TextEditUtil;
 import org.eclipse.jdt.internal.formatter.DefaultCodeFormatterOptions;
 import org.eclipse.jdt.internal.ui.preferences.formatter.ProfileVersionerCore;
@@ -57,6 +66,9 @@ import org.eclipse.text.edits.MultiTextEdit;
 import org.eclipse.text.edits.ReplaceEdit;
 import org.eclipse.text.edits.TextEdit;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
 /**
  * @author IBM Corporation (Markus Keller)
  */
@@ -67,6 +79,13 @@ public class FormatterHandler {
 	private static final char COMMA = ',';
 	private static final String SPACE = " ";
 	private static final String TAB = "\t";
+	private static final int FORMATTER_CACHE_SIZE = 10;
+
+	/**
+	 * Formatters by formatter options. Creating a formatter parses all of its
+	 * options, which is wasteful for requests as frequent as on-type formatting.
+	 */
+	private static final Cache<Map<String, String>, CodeFormatter> formatters = CacheBuilder.newBuilder().maximumSize(FORMATTER_CACHE_SIZE).build();
 
 	private PreferenceManager preferenceManager;
 
@@ -104,21 +123,31 @@ public class FormatterHandler {
 			return Collections.emptyList();
 		}
 
-		return format(cu, document, region, options, preferenceManager.getPreferences().isJavaFormatComments(), monitor);
+		return format(cu, document, region, options, preferenceManager.getPreferences().isJavaFormatComments(), range != null, monitor);
 	}
 
-	private List<org.eclipse.lsp4j.TextEdit> format(ICompilationUnit cu, IDocument document, IRegion region, FormattingOptions options, boolean includeComments, IProgressMonitor monitor) {
+	private List<org.eclipse.lsp4j.TextEdit> format(ICompilationUnit cu, IDocument document, IRegion region, FormattingOptions options, boolean includeComments, boolean partial, IProgressMonitor monitor) {
 		if (cu == null || document == null || region == null || monitor.isCanceled()) {
 			return Collections.emptyList();
 		}
 
-		CodeFormatter formatter = ToolFactory.createCodeFormatter(getOptions(options, cu));
+		Map<String, String> formatterOptions = getOptions(options, cu);
+		CodeFormatter formatter = getFormatter(formatterOptions);
 
 		String lineDelimiter = TextUtilities.getDefaultLineDelimiter(document);
 		String sourceToFormat = document.get();
 		int kind = getFormattingKind(cu, includeComments);
-		TextEdit format = formatter.format(kind, sourceToFormat, region.getOffset(), region.getLength(), 0, lineDelimiter);
-		InsertEdit commaIndentationEdit = computeIndentationIfCommaPresent(cu, document, region, options);
+		TextEdit format = null;
+		// code formatters are not thread-safe
+		synchronized (formatter) {
+			if (partial && (kind & CodeFormatter.K_COMPILATION_UNIT) != 0) {
+				format = formatWithoutOtherMembers(formatter, kind, cu, sourceToFormat, region, lineDelimiter);
+			}
+			if (format == null) {
+				format = format(formatter, kind, sourceToFormat, region, lineDelimiter);
+			}
+		}
+		InsertEdit commaIndentationEdit = computeIndentationIfCommaPresent(formatterOptions, document, region, options);
 		if (commaIndentationEdit != null) {
 			format.addChild(commaIndentationEdit);
 		}
@@ -130,7 +159,123 @@ public class FormatterHandler {
 		return convertEdits(flatEdit.getChildren(), document);
 	}
 
-	private InsertEdit computeIndentationIfCommaPresent(ICompilationUnit cu, IDocument document, IRegion region, FormattingOptions options) {
+	private static CodeFormatter getFormatter(Map<String, String> formatterOptions) {
+		try {
+			return formatters.get(formatterOptions, () -> ToolFactory.createCodeFormatter(formatterOptions));
+		} catch (ExecutionException e) {
+			return ToolFactory.createCodeFormatter(formatterOptions);
+		}
+	}
+
+	/**
+	 * Formats the given region of the source.
+	 *
+	 * @param source
+	 *            the source of the document, or the source from which the
+	 *            members away from the region have been removed
+	 */
+	protected TextEdit format(CodeFormatter formatter, int kind, String source, IRegion region, String lineDelimiter) {
+		return formatter.format(kind, source, region.getOffset(), region.getLength(), 0, lineDelimiter);
+	}
+
+	/**
+	 * Formats the given region of a compilation unit, from which the bodies of
+	 * the methods and initializers away from the region have been removed. The
+	 * formatter parses and prepares the whole source it is given, even when only
+	 * a small region is formatted, so this keeps the cost of on-type and range
+	 * formatting proportional to the edited member rather than to the file. The
+	 * members right before and after the region are kept, as well as the type
+	 * declarations, so that the indentation and line breaks of the region are
+	 * computed in the same context.
+	 *
+	 * @return the edit, with offsets in the original source, or <code>null</code>
+	 *         if the source can not be reduced
+	 */
+	private TextEdit formatWithoutOtherMembers(CodeFormatter formatter, int kind, ICompilationUnit cu, String source, IRegion region, String lineDelimiter) {
+		// formatter on/off tags may span members
+		if (source.contains("@formatter:")) {
+			return null;
+		}
+		CompilationUnit astRoot = parseDeclarations(cu, source);
+		List<IRegion> removedRanges = new ArrayList<>();
+		collectRemovableBodies(astRoot.types(), source, region.getOffset(), region.getOffset() + region.getLength(), removedRanges);
+		if (removedRanges.isEmpty()) {
+			return null;
+		}
+		removedRanges.sort((r1, r2) -> Integer.compare(r1.getOffset(), r2.getOffset()));
+		StringBuilder reducedSource = new StringBuilder(source.length());
+		int last = 0;
+		int shift = 0;
+		for (IRegion removed : removedRanges) {
+			reducedSource.append(source, last, removed.getOffset());
+			last = removed.getOffset() + removed.getLength();
+			if (last <= region.getOffset()) {
+				shift += removed.getLength();
+			}
+		}
+		reducedSource.append(source, last, source.length());
+		TextEdit edit = format(formatter, kind, reducedSource.toString(), new Region(region.getOffset() - shift, region.getLength()), lineDelimiter);
+		if (edit != null && shift > 0) {
+			edit.moveTree(shift);
+		}
+		return edit;
+	}
+
+	/**
+	 * Parses the declarations of the given source, without the statements of
+	 * the method bodies. The shared AST can't be used, as it lags behind the
+	 * document until the next reconcile, and on-type formatting follows the edit
+	 * that triggered it.
+	 */
+	private static CompilationUnit parseDeclarations(ICompilationUnit cu, String source) {
+		ASTParser parser = ASTParser.newParser(IASTSharedValues.SHARED_AST_LEVEL);
+		parser.setKind(ASTParser.K_COMPILATION_UNIT);
+		parser.setSource(source.toCharArray());
+		parser.setProject(cu.getJavaProject());
+		parser.setIgnoreMethodBodies(true);
+		return (CompilationUnit) parser.createAST(null);
+	}
+
+	/**
+	 * Collects the lines strictly inside the bodies of the methods and
+	 * initializers that are away from the given range.
+	 */
+	private static void collectRemovableBodies(List<?> declarations, String source, int start, int end, List<IRegion> removedRanges) {
+		for (int i = 0; i < declarations.size(); i++) {
+			BodyDeclaration declaration = (BodyDeclaration) declarations.get(i);
+			if (declaration instanceof AbstractTypeDeclaration type) {
+				collectRemovableBodies(type.bodyDeclarations(), source, start, end, removedRanges);
+				continue;
+			}
+			int declarationEnd = declaration.getStartPosition() + declaration.getLength();
+			boolean overlaps = declaration.getStartPosition() <= end && start <= declarationEnd;
+			boolean lastBefore = declarationEnd < start && (i + 1 == declarations.size() || ((ASTNode) declarations.get(i + 1)).getStartPosition() >= start);
+			boolean firstAfter = declaration.getStartPosition() > end && (i == 0 || getEnd((ASTNode) declarations.get(i - 1)) <= end);
+			if (overlaps || lastBefore || firstAfter) {
+				continue;
+			}
+			Block body = null;
+			if (declaration instanceof MethodDeclaration method) {
+				body = method.getBody();
+			} else if (declaration instanceof Initializer initializer) {
+				body = initializer.getBody();
+			}
+			if (body != null) {
+				// keep the lines of the opening and closing braces
+				int from = source.indexOf(NEW_LINE, body.getStartPosition());
+				int to = source.lastIndexOf(NEW_LINE, getEnd(body) - 1);
+				if (from >= 0 && from < to) {
+					removedRanges.add(new Region(from, to - from));
+				}
+			}
+		}
+	}
+
+	private static int getEnd(ASTNode node) {
+		return node.getStartPosition() + node.getLength();
+	}
+
+	private InsertEdit computeIndentationIfCommaPresent(Map<String, String> formatterOptions, IDocument document, IRegion region, FormattingOptions options) {
 		int length = region.getLength();
 		try {
 			if (document.getChar(region.getOffset() + length) == NEW_LINE) {
@@ -140,7 +285,7 @@ public class FormatterHandler {
 						continue;
 					} else if (lastCharacter == COMMA) {
 						String newText = "";
-						int numTabs = Integer.valueOf(getOptions(options, cu).get(DefaultCodeFormatterConstants.FORMATTER_CONTINUATION_INDENTATION));
+						int numTabs = Integer.valueOf(formatterOptions.get(DefaultCodeFormatterConstants.FORMATTER_CONTINUATION_INDENTATION));
 						if (options.isInsertSpaces()) {
 							newText = SPACE.repeat(options.getTabSize() * numTabs);
 						} else {
@@ -270,7 +415,7 @@ public class FormatterHandler {
 		if (region == null) {
 			return Collections.emptyList();
 		}
-		return format(cu, document, region, options, false, monitor);
+		return format(cu, document, region, options, false, true, monitor);
 	}
 
 	private IRegion getRegion(ICompilationUnit cu, IDocument document, Position position, String trigger) {
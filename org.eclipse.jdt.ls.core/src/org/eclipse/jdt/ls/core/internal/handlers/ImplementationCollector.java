@@ -131,7 +131,7 @@ public class ImplementationCollector<T> {
 		try {
 			String typeLabel = JavaElementLabelsCore.getElementLabel(type, JavaElementLabelsCore.DEFAULT_QUALIFIED);
 			monitor.beginTask(Messages.format(JavaElementImplementationHyperlink_search_method_implementors, typeLabel), 10);
-			IType[] allTypes = type.newTypeHierarchy(monitor).getAllSubtypes(type);
+			IType[] allTypes = TypeHierarchyCache.instance().getAllSubtypes(type, monitor);
 			results = Arrays.stream(allTypes).map(el -> mapper.convert(el, 0, 0)).filter(Objects::nonNull).collect(Collectors.toList());
 			if (monitor.isCanceled()) {
 				throw new OperationCanceledException();
@@ -0,0 +1,312 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal.handlers;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.Flags;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IImportDeclaration;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.ls.core.internal.JavaLanguageServerPlugin;
+
+/**
+ * Index of the single-type imports declared in the source files of each
+ * project, from qualified type name to its number of imports. It is used to
+ * rank the candidates of an unresolved type name by how often the project
+ * already uses them.
+ *
+ * The index of a project is built in a background job on first use, and the
+ * candidates are not ranked until it is ready. It is then updated lazily from
+ * the Java model deltas: changed compilation units are re-read on the next
+ * query, and a classpath change drops the whole project.
+ */
+public class ImportedTypesIndex {
+
+	private static final int CLASSPATH_CHANGED_FLAGS = IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED;
+
+	public static final String IMPORTED_TYPES_JOBS = "ImportedTypesJobs";
+
+	private final Map<String, ProjectImports> projects = new ConcurrentHashMap<>();
+
+	private static class InstanceHolder {
+		public static ImportedTypesIndex instance = new ImportedTypesIndex();
+	}
+
+	private ImportedTypesIndex() {
+		JavaCore.addElementChangedListener(event -> processDelta(event.getDelta()), ElementChangedEvent.POST_CHANGE);
+	}
+
+	public static ImportedTypesIndex instance() {
+		return InstanceHolder.instance;
+	}
+
+	/**
+	 * Returns how many source files of the project import the given type, or 0
+	 * while the project is being indexed.
+	 *
+	 * @param project
+	 *            the project
+	 * @param qualifiedName
+	 *            the fully qualified type name
+	 * @return the number of single-type imports of the type
+	 */
+	public int getImportCount(IJavaProject project, String qualifiedName) {
+		if (project == null || qualifiedName == null) {
+			return 0;
+		}
+		return getProjectImports(project).getCount(qualifiedName);
+	}
+
+	/**
+	 * Sorts the candidates by decreasing number of imports in the project. The
+	 * sort is stable, so candidates that are equally imported keep their order,
+	 * and the candidates are left as is while the project is being indexed.
+	 */
+	public <T> void sortByImportCount(IJavaProject project, List<T> candidates, Function<T, String> qualifiedName) {
+		if (project == null || candidates.size() < 2) {
+			return;
+		}
+		ProjectImports imports = getProjectImports(project);
+		if (!imports.isReady()) {
+			return;
+		}
+		candidates.sort(Comparator.comparingInt((T candidate) -> imports.getCount(qualifiedName.apply(candidate))).reversed());
+	}
+
+	/**
+	 * Returns the candidate that is imported strictly more often than all the
+	 * others in the project, or <code>null</code> if there is none.
+	 */
+	public String getPreferredCandidate(IJavaProject project, Collection<String> candidates) {
+		if (project == null) {
+			return null;
+		}
+		ProjectImports imports = getProjectImports(project);
+		String preferred = null;
+		int preferredCount = 0;
+		boolean tie = false;
+		for (String candidate : candidates) {
+			int count = imports.getCount(candidate);
+			if (count > preferredCount) {
+				preferred = candidate;
+				preferredCount = count;
+				tie = false;
+			} else if (count > 0 && count == preferredCount) {
+				tie = true;
+			}
+		}
+		return tie ? null : preferred;
+	}
+
+	private ProjectImports getProjectImports(IJavaProject project) {
+		ProjectImports imports = projects.computeIfAbsent(project.getElementName(), name -> {
+			ProjectImports created = new ProjectImports(project);
+			created.indexer.schedule();
+			return created;
+		});
+		imports.update();
+		return imports;
+	}
+
+	private void drop(String projectName) {
+		ProjectImports imports = projects.remove(projectName);
+		if (imports != null) {
+			imports.indexer.cancel();
+		}
+	}
+
+	private void processDelta(IJavaElementDelta delta) {
+		IJavaElement element = delta.getElement();
+		switch (element.getElementType()) {
+			case IJavaElement.JAVA_MODEL:
+				break;
+			case IJavaElement.JAVA_PROJECT:
+				if (delta.getKind() != IJavaElementDelta.CHANGED || (delta.getFlags() & (CLASSPATH_CHANGED_FLAGS | IJavaElementDelta.F_CLOSED)) != 0) {
+					drop(element.getElementName());
+					return;
+				}
+				if (!projects.containsKey(element.getElementName())) {
+					return;
+				}
+				break;
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+			case IJavaElement.PACKAGE_FRAGMENT:
+				if (delta.getKind() != IJavaElementDelta.CHANGED) {
+					// a whole root or package was added or removed
+					drop(element.getJavaProject().getElementName());
+					return;
+				}
+				break;
+			case IJavaElement.COMPILATION_UNIT:
+				ProjectImports imports = projects.get(element.getJavaProject().getElementName());
+				if (imports != null) {
+					imports.markChanged((ICompilationUnit) element);
+				}
+				return;
+			default:
+				return;
+		}
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			processDelta(child);
+		}
+	}
+
+	private static class ProjectImports {
+
+		private final IJavaProject project;
+		private final Job indexer;
+		private final Map<String, List<String>> importsByUnit = new HashMap<>();
+		private final Map<String, Integer> counts = new HashMap<>();
+		private final Set<ICompilationUnit> changedUnits = new LinkedHashSet<>();
+		private boolean ready;
+
+		ProjectImports(IJavaProject project) {
+			this.project = project;
+			this.indexer = new Job("Index the imports of " + project.getElementName()) {
+				@Override
+				protected IStatus run(IProgressMonitor monitor) {
+					return index(monitor);
+				}
+
+				@Override
+				public boolean belongsTo(Object family) {
+					return IMPORTED_TYPES_JOBS.equals(family);
+				}
+			};
+			indexer.setSystem(true);
+		}
+
+		synchronized void markChanged(ICompilationUnit unit) {
+			changedUnits.add(unit);
+		}
+
+		synchronized boolean isReady() {
+			return ready;
+		}
+
+		synchronized int getCount(String qualifiedName) {
+			return counts.getOrDefault(qualifiedName, 0);
+		}
+
+		/**
+		 * Re-reads the units changed since the last query, once the project is
+		 * indexed.
+		 */
+		synchronized void update() {
+			if (!ready) {
+				return;
+			}
+			for (ICompilationUnit unit : changedUnits) {
+				setImports(unit.getPrimary(), readImports(unit.getPrimary()));
+			}
+			changedUnits.clear();
+		}
+
+		/*
+		 * Reads the imports of all the source units without holding the lock, so
+		 * that the queries don't wait for the indexing. The units changed in the
+		 * meantime are re-read by the next update.
+		 */
+		private IStatus index(IProgressMonitor monitor) {
+			Map<ICompilationUnit, List<String>> imports = new HashMap<>();
+			try {
+				for (IPackageFragmentRoot root : project.getPackageFragmentRoots()) {
+					if (root.getKind() != IPackageFragmentRoot.K_SOURCE) {
+						continue;
+					}
+					for (IJavaElement child : root.getChildren()) {
+						if (monitor.isCanceled()) {
+							return Status.CANCEL_STATUS;
+						}
+						if (child instanceof IPackageFragment fragment) {
+							for (ICompilationUnit unit : fragment.getCompilationUnits()) {
+								imports.put(unit, readImports(unit));
+							}
+						}
+					}
+				}
+			} catch (JavaModelException e) {
+				JavaLanguageServerPlugin.logException("Failed to index the imports of " + project.getElementName(), e);
+			}
+			synchronized (this) {
+				imports.forEach(this::setImports);
+				ready = true;
+			}
+			return Status.OK_STATUS;
+		}
+
+		/**
+		 * Returns the single-type imports of the unit, or <code>null</code> if it
+		 * doesn't exist or can't be read.
+		 */
+		private static List<String> readImports(ICompilationUnit unit) {
+			if (!unit.exists()) {
+				return null;
+			}
+			try {
+				List<String> imports = new ArrayList<>();
+				for (IImportDeclaration declaration : unit.getImports()) {
+					if (!declaration.isOnDemand() && !Flags.isStatic(declaration.getFlags())) {
+						imports.add(declaration.getElementName());
+					}
+				}
+				return imports;
+			} catch (JavaModelException e) {
+				// the unit can not be read, ignore its imports
+				return null;
+			}
+		}
+
+		private void setImports(ICompilationUnit unit, List<String> imports) {
+			String key = unit.getHandleIdentifier();
+			List<String> previous = importsByUnit.remove(key);
+			if (previous != null) {
+				previous.forEach(name -> add(name, -1));
+			}
+			if (imports != null) {
+				imports.forEach(name -> add(name, 1));
+				importsByUnit.put(key, imports);
+			}
+		}
+
+		private void add(String qualifiedName, int delta) {
+			int count = counts.getOrDefault(qualifiedName, 0) + delta;
+			if (count > 0) {
+				counts.put(qualifiedName, count);
+			} else {
+				counts.remove(qualifiedName);
+			}
+		}
+	}
+}
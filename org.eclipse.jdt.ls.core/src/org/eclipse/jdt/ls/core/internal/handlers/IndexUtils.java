@@ -14,16 +14,24 @@
 package org.eclipse.jdt.ls.core.internal.handlers;
 
 import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.LinkOption;
 import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -36,8 +44,13 @@ import org.eclipse.core.resources.IResourceChangeListener;
 import org.eclipse.core.resources.IWorkspace;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.Path;
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IClasspathContainer;
 import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
@@ -50,13 +63,31 @@ import org.eclipse.jdt.internal.core.index.Index;
 import org.eclipse.jdt.internal.core.index.IndexLocation;
 import org.eclipse.jdt.internal.core.search.indexing.IndexManager;
 import org.eclipse.jdt.internal.core.search.indexing.ReadWriteMonitor;
+import org.eclipse.jdt.internal.core.search.processing.IJob;
+import org.eclipse.jdt.launching.IVMInstall;
+import org.eclipse.jdt.launching.IVMInstallType;
+import org.eclipse.jdt.launching.JavaRuntime;
+import org.eclipse.jdt.launching.LibraryLocation;
 import org.eclipse.jdt.ls.core.internal.JavaLanguageServerPlugin;
 import org.eclipse.jdt.ls.core.internal.JobHelpers;
 import org.eclipse.jdt.ls.core.internal.ProjectUtils;
 
 public class IndexUtils {
+	// read-only directory of prebuilt library indexes, named <SHA-1 of the library>.index
+	private static final String INDEX_SNAPSHOT_LOCATION = "jdt.ls.indexSnapshotLocation";
+	private static final String JRT_FS_JAR = "jrt-fs.jar";
 	private static boolean resourceChangeRegistered = false;
+	private static boolean snapshotListenerRegistered = false;
 	private static Map<IPath, Long> externalTimeStamps = null;
+	private static Map<IPath, IndexChecksum> indexChecksums = null;
+
+	/**
+	 * The state of a library index recorded after it was found healthy.
+	 * The checksum is only recomputed when the length or the timestamp of
+	 * the index file changed.
+	 */
+	private record IndexChecksum(long libraryTimeStamp, long length, long lastModified, long checksum) {
+	}
 
 	public static void copyIndexesToSharedLocation() {
 		// common index location for all workspaces
@@ -97,6 +128,352 @@ public class IndexUtils {
 		}, IResourceChangeEvent.PRE_REFRESH);
 	}
 
+	/**
+	 * Copies the indexes of the JDK libraries from the index snapshot directory
+	 * (<code>-Djdt.ls.indexSnapshotLocation</code>) into the local index location,
+	 * before the classpath of the projects is set, and keeps doing so in the
+	 * indexing thread for the libraries of projects whose classpath changes, so
+	 * that JDT only has to validate those indexes instead of building them.
+	 */
+	public static void seedIndexesFromSnapshot() {
+		File snapshotDirectory = getIndexSnapshotDirectory();
+		if (JavaModelManager.getIndexManager() == null || snapshotDirectory == null) {
+			return;
+		}
+
+		for (IVMInstallType vmInstallType : JavaRuntime.getVMInstallTypes()) {
+			for (IVMInstall vmInstall : vmInstallType.getVMInstalls()) {
+				LibraryLocation[] libraries = JavaRuntime.getLibraryLocations(vmInstall);
+				if (libraries == null) {
+					continue;
+				}
+				for (LibraryLocation library : libraries) {
+					seedIndexFromSnapshot(library.getSystemLibraryPath(), snapshotDirectory);
+				}
+			}
+		}
+		registerSnapshotListener();
+	}
+
+	private static synchronized void registerSnapshotListener() {
+		if (snapshotListenerRegistered) {
+			return;
+		}
+		snapshotListenerRegistered = true;
+		JavaCore.addElementChangedListener(event -> {
+			File snapshotDirectory = getIndexSnapshotDirectory();
+			if (snapshotDirectory == null) {
+				return;
+			}
+			IndexManager indexManager = JavaModelManager.getIndexManager();
+			Map<IPath, IProject> libraries = new LinkedHashMap<>();
+			for (IJavaElementDelta delta : event.getDelta().getAffectedChildren()) {
+				if (delta.getElement().getElementType() == IJavaElement.JAVA_PROJECT
+						&& (delta.getFlags() & (IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED | IJavaElementDelta.F_CLASSPATH_CHANGED)) != 0) {
+					try {
+						JavaProject javaProject = (JavaProject) delta.getElement();
+						for (IClasspathEntry entry : javaProject.getResolvedClasspath()) {
+							if (entry.getEntryKind() == IClasspathEntry.CPE_LIBRARY && ((ClasspathEntry) entry).getLibraryIndexLocation() == null
+									&& indexManager.getIndex(indexManager.computeIndexLocation(entry.getPath())) == null) {
+								libraries.putIfAbsent(entry.getPath(), javaProject.getProject());
+							}
+						}
+					} catch (JavaModelException e) {
+						JavaLanguageServerPlugin.logException(e);
+					}
+				}
+			}
+			if (!libraries.isEmpty()) {
+				// the indexing of the libraries was requested before this notification,
+				// it is requested again once their indexes are seeded
+				for (IPath libraryPath : libraries.keySet()) {
+					indexManager.discardJobs(libraryPath.toString());
+				}
+				indexManager.request(new SeedIndexesJob(libraries, snapshotDirectory));
+			}
+		}, ElementChangedEvent.POST_CHANGE);
+	}
+
+	/**
+	 * Seeds the indexes of libraries from the index snapshot and then requests
+	 * their indexing, which validates the seeded indexes. It runs in the
+	 * indexing thread, so that no other index job touches the indexes of the
+	 * libraries meanwhile.
+	 */
+	private static class SeedIndexesJob implements IJob {
+
+		private final Map<IPath, IProject> libraries;
+		private final File snapshotDirectory;
+		private volatile boolean canceled;
+
+		SeedIndexesJob(Map<IPath, IProject> libraries, File snapshotDirectory) {
+			this.libraries = libraries;
+			this.snapshotDirectory = snapshotDirectory;
+		}
+
+		@Override
+		public boolean belongsTo(String jobFamily) {
+			// the libraries must be indexed even if one of them is discarded
+			return false;
+		}
+
+		@Override
+		public void cancel() {
+			canceled = true;
+		}
+
+		@Override
+		public void ensureReadyToRun() {
+			// nothing to prepare
+		}
+
+		@Override
+		public boolean execute(IProgressMonitor progress) {
+			IndexManager indexManager = JavaModelManager.getIndexManager();
+			for (Map.Entry<IPath, IProject> library : libraries.entrySet()) {
+				if (!canceled && (progress == null || !progress.isCanceled())) {
+					seedIndexFromSnapshot(library.getKey(), snapshotDirectory);
+				}
+				indexManager.indexLibrary(library.getKey(), library.getValue(), null, false);
+			}
+			return COMPLETE;
+		}
+
+		@Override
+		public String getJobFamily() {
+			return snapshotDirectory.getPath();
+		}
+
+		@Override
+		public String toString() {
+			return "Seeding the indexes of " + libraries.size() + " libraries from " + snapshotDirectory;
+		}
+	}
+
+	/**
+	 * Verifies the indexes of the external libraries of the given projects
+	 * against the checksums recorded in the previous session. Only the
+	 * libraries whose index is missing, or whose index changed while the
+	 * library itself did not, are re-indexed (from the index snapshot when
+	 * one is available).
+	 *
+	 * @param javaProjects
+	 *            the projects whose libraries should be verified
+	 * @param monitor
+	 *            the progress monitor
+	 * @return the number of libraries scheduled for re-indexing
+	 */
+	public static int verifyLibraryIndexes(IJavaProject[] javaProjects, IProgressMonitor monitor) {
+		if (JavaModelManager.getIndexManager() == null) {
+			return 0;
+		}
+
+		Map<IPath, IndexChecksum> checksums = getIndexChecksums();
+		Set<IPath> processedPaths = new HashSet<>();
+		int rebuilt = 0;
+		boolean changed = false;
+		for (IJavaProject javaProject : javaProjects) {
+			if (monitor != null && monitor.isCanceled()) {
+				break;
+			}
+			try {
+				if (javaProject == null || !javaProject.exists()) {
+					continue;
+				}
+
+				for (IClasspathEntry entry : ((JavaProject) javaProject).getResolvedClasspath()) {
+					if (entry.getEntryKind() != IClasspathEntry.CPE_LIBRARY || !processedPaths.add(entry.getPath())
+							|| ((ClasspathEntry) entry).getLibraryIndexLocation() != null) {
+						continue;
+					}
+
+					IPath libraryPath = entry.getPath();
+					if (!(JavaModel.getTarget(libraryPath, true) instanceof File libraryFile) || !libraryFile.isFile()) {
+						continue;
+					}
+
+					File indexFile = JavaModelManager.getIndexManager().computeIndexLocation(libraryPath).getIndexFile();
+					if (indexFile == null) {
+						continue;
+					}
+
+					IndexChecksum previous = checksums.get(libraryPath);
+					long libraryTimeStamp = getLibTimeStamp(libraryFile);
+					if (!indexFile.exists()) {
+						rebuildLibraryIndex(libraryPath);
+						checksums.remove(libraryPath);
+						changed = true;
+						rebuilt++;
+						continue;
+					}
+
+					long length = indexFile.length();
+					long lastModified = indexFile.lastModified();
+					if (previous != null && previous.length() == length && previous.lastModified() == lastModified
+							&& previous.libraryTimeStamp() == libraryTimeStamp) {
+						continue;
+					}
+
+					long checksum = getChecksum(indexFile);
+					if (previous != null && previous.libraryTimeStamp() == libraryTimeStamp && previous.checksum() != checksum) {
+						// the library did not change, but its index did
+						JavaLanguageServerPlugin.logInfo("The index of " + libraryPath.toOSString() + " is corrupt. Rebuilding it.");
+						rebuildLibraryIndex(libraryPath);
+						checksums.remove(libraryPath);
+						rebuilt++;
+					} else {
+						checksums.put(libraryPath, new IndexChecksum(libraryTimeStamp, length, lastModified, checksum));
+					}
+					changed = true;
+				}
+			} catch (JavaModelException e) {
+				JavaLanguageServerPlugin.logException(e);
+			}
+		}
+
+		if (changed) {
+			saveIndexChecksums();
+		}
+		return rebuilt;
+	}
+
+	/**
+	 * Re-indexes the libraries contributed by the JRE containers of the given
+	 * projects.
+	 *
+	 * @param javaProjects
+	 *            the projects
+	 * @return the number of libraries scheduled for re-indexing
+	 */
+	public static int rebuildJREIndexes(IJavaProject[] javaProjects) {
+		if (JavaModelManager.getIndexManager() == null) {
+			return 0;
+		}
+
+		Set<IPath> libraryPaths = new HashSet<>();
+		for (IJavaProject javaProject : javaProjects) {
+			try {
+				for (IClasspathEntry rawEntry : javaProject.getRawClasspath()) {
+					if (rawEntry.getEntryKind() != IClasspathEntry.CPE_CONTAINER || !JavaRuntime.JRE_CONTAINER.equals(rawEntry.getPath().segment(0))) {
+						continue;
+					}
+					IClasspathContainer container = JavaCore.getClasspathContainer(rawEntry.getPath(), javaProject);
+					if (container != null) {
+						for (IClasspathEntry entry : container.getClasspathEntries()) {
+							libraryPaths.add(entry.getPath());
+						}
+					}
+				}
+			} catch (JavaModelException e) {
+				JavaLanguageServerPlugin.logException(e);
+			}
+		}
+
+		Map<IPath, IndexChecksum> checksums = getIndexChecksums();
+		for (IPath libraryPath : libraryPaths) {
+			rebuildLibraryIndex(libraryPath);
+			checksums.remove(libraryPath);
+		}
+		if (!libraryPaths.isEmpty()) {
+			saveIndexChecksums();
+		}
+		return libraryPaths.size();
+	}
+
+	private static void rebuildLibraryIndex(IPath libraryPath) {
+		IndexManager indexManager = JavaModelManager.getIndexManager();
+		indexManager.removeIndex(libraryPath);
+		File snapshotDirectory = getIndexSnapshotDirectory();
+		if (snapshotDirectory != null) {
+			seedIndexFromSnapshot(libraryPath, snapshotDirectory);
+		}
+		// requests a rebuild, which reuses the seeded index file if there is one
+		indexManager.getIndex(libraryPath, true, false);
+	}
+
+	private static boolean seedIndexFromSnapshot(IPath libraryPath, File snapshotDirectory) {
+		if (!(JavaModel.getTarget(libraryPath, true) instanceof File libraryFile) || !libraryFile.isFile()) {
+			return false;
+		}
+
+		IndexManager indexManager = JavaModelManager.getIndexManager();
+		IndexLocation localIndexLocation = indexManager.computeIndexLocation(libraryPath);
+		File localIndexFile = localIndexLocation.getIndexFile();
+		if (localIndexFile == null || localIndexFile.exists() || indexManager.getIndex(localIndexLocation) != null) {
+			return false;
+		}
+
+		String key = getSnapshotKey(libraryFile);
+		if (key == null) {
+			return false;
+		}
+
+		File snapshotFile = new File(snapshotDirectory, key + ".index");
+		if (!snapshotFile.isFile()) {
+			return false;
+		}
+
+		return copyIndexFile(snapshotFile, localIndexFile, snapshotFile.lastModified());
+	}
+
+	private static File getIndexSnapshotDirectory() {
+		String snapshotLocation = System.getProperty(INDEX_SNAPSHOT_LOCATION);
+		// a shared index location already lets the indexes survive across workspaces
+		if (StringUtils.isBlank(snapshotLocation) || StringUtils.isNotBlank(System.getProperty("jdt.core.sharedIndexLocation"))) {
+			return null;
+		}
+
+		File snapshotDirectory = new File(snapshotLocation);
+		return snapshotDirectory.isDirectory() ? snapshotDirectory : null;
+	}
+
+	/*
+	 * Answer the SHA-1 of the library. For a modular JDK (lib/jrt-fs.jar),
+	 * the runtime image is identified by its release file and the size of
+	 * lib/modules instead.
+	 */
+	private static String getSnapshotKey(File libraryFile) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-1");
+			File libDirectory = libraryFile.getParentFile();
+			if (JRT_FS_JAR.equals(libraryFile.getName()) && libDirectory != null && libDirectory.getParentFile() != null) {
+				File releaseFile = new File(libDirectory.getParentFile(), "release");
+				File modulesFile = new File(libDirectory, "modules");
+				if (!releaseFile.isFile() || !modulesFile.isFile()) {
+					return null;
+				}
+				digest.update(Files.readAllBytes(releaseFile.toPath()));
+				digest.update(Long.toString(modulesFile.length()).getBytes());
+			} else {
+				try (InputStream in = new BufferedInputStream(new FileInputStream(libraryFile))) {
+					byte[] buffer = new byte[8192];
+					int read;
+					while ((read = in.read(buffer)) != -1) {
+						digest.update(buffer, 0, read);
+					}
+				}
+			}
+			return HexFormat.of().formatHex(digest.digest());
+		} catch (IOException | NoSuchAlgorithmException e) {
+			JavaLanguageServerPlugin.logError(String.format("Failed to compute the snapshot key of %s: %s", libraryFile.getName(), e.getMessage()));
+			return null;
+		}
+	}
+
+	private static long getChecksum(File file) {
+		CRC32 checksumCalculator = new CRC32();
+		try (InputStream in = new BufferedInputStream(new FileInputStream(file))) {
+			byte[] buffer = new byte[8192];
+			int read;
+			while ((read = in.read(buffer)) != -1) {
+				checksumCalculator.update(buffer, 0, read);
+			}
+		} catch (IOException e) {
+			return -1;
+		}
+		return checksumCalculator.getValue();
+	}
+
 	private static void copyIndexesToSharedLocation(IJavaProject[] javaProjects) {
 		Set<ClasspathEntry> processedEntries = new HashSet<>();
 		Set<ClasspathEntry> deferredEntries = new HashSet<>();
@@ -299,6 +676,51 @@ public class IndexUtils {
 		return externalTimeStamps;
 	}
 
+	private synchronized static Map<IPath, IndexChecksum> getIndexChecksums() {
+		if (indexChecksums == null) {
+			Map<IPath, IndexChecksum> checksums = new HashMap<>();
+			File checksumsFile = getIndexChecksumsFile();
+			try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(checksumsFile)))) {
+				int size = in.readInt();
+				while (size-- > 0) {
+					String key = in.readUTF();
+					checksums.put(Path.fromPortableString(key), new IndexChecksum(in.readLong(), in.readLong(), in.readLong(), in.readLong()));
+				}
+			} catch (IOException e) {
+				if (checksumsFile.exists()) {
+					JavaLanguageServerPlugin.logException("Unable to read index checksums", e);
+				}
+			}
+
+			indexChecksums = checksums;
+		}
+
+		return indexChecksums;
+	}
+
+	private synchronized static void saveIndexChecksums() {
+		File checksumsFile = getIndexChecksumsFile();
+		mkdirsFor(checksumsFile);
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(checksumsFile)))) {
+			Map<IPath, IndexChecksum> checksums = getIndexChecksums();
+			out.writeInt(checksums.size());
+			for (Map.Entry<IPath, IndexChecksum> entry : checksums.entrySet()) {
+				IndexChecksum checksum = entry.getValue();
+				out.writeUTF(entry.getKey().toPortableString());
+				out.writeLong(checksum.libraryTimeStamp());
+				out.writeLong(checksum.length());
+				out.writeLong(checksum.lastModified());
+				out.writeLong(checksum.checksum());
+			}
+		} catch (IOException e) {
+			JavaLanguageServerPlugin.logException("Unable to save index checksums", e);
+		}
+	}
+
+	private static File getIndexChecksumsFile() {
+		return JavaLanguageServerPlugin.getInstance().getStateLocation().append("indexChecksums").toFile();
+	}
+
 	private static File getExternalLibTimeStampsFile() {
 		return JavaCore.getPlugin().getStateLocation().append("externalLibsTimeStamps").toFile();
 	}
@@ -274,6 +274,7 @@ final public class InitHandler extends BaseInitHandler {
 					JobHelpers.waitForRepositoryRegistryUpdateJob();
 					JavaLanguageServerPlugin.logInfo("RepositoryRegistryUpdateJob finished " + (System.currentTimeMillis() - start) + "ms");
 					resetBuildState = ProjectsManager.interruptAutoBuild();
+					IndexUtils.seedIndexesFromSnapshot();
 					projectsManager.initializeProjects(roots, subMonitor);
 					projectsManager.configureFilters(monitor);
 					JavaLanguageServerPlugin.logInfo("Workspace initialized in " + (System.currentTimeMillis() - start) + "ms");
@@ -13,13 +13,25 @@
 
 package org.eclipse.jdt.ls.core.internal.handlers;
 
+import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IClassFile;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
 import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.ITypeRoot;
+import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.dom.ASTNode;
 import org.eclipse.jdt.core.dom.ASTVisitor;
@@ -41,17 +53,40 @@ import org.eclipse.jdt.core.dom.SuperMethodInvocation;
 import org.eclipse.jdt.core.dom.TypeLiteral;
 import org.eclipse.jdt.ls.core.internal.JavaLanguageServerPlugin;
 import org.eclipse.jdt.ls.core.internal.preferences.PreferenceManager;
+import org.eclipse.jface.text.IDocument;
 import org.eclipse.lsp4j.InlayHint;
 import org.eclipse.lsp4j.Position;
 import org.eclipse.lsp4j.jsonrpc.messages.Either;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
 @SuppressWarnings("unchecked")
 class InlayHintVisitor extends ASTVisitor {
+	private static final int BINARY_PARAMETER_NAMES_CACHE_SIZE = 5000;
+	private static final int LIBRARY_CHANGED_FLAGS = IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED | IJavaElementDelta.F_SOURCEATTACHED | IJavaElementDelta.F_SOURCEDETACHED | IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED;
+
+	/**
+	 * The <code>$isGenerated</code> field of each AST node class, if any.
+	 */
+	private static final Map<Class<?>, Optional<Field>> generatedFields = new ConcurrentHashMap<>();
+
+	/**
+	 * Parameter names of library methods, keyed by library and method binding
+	 * key, since projects may depend on different versions of a library. They
+	 * only change with the classpath or the source attachments, so they are kept
+	 * across requests.
+	 */
+	private static final Cache<LibraryMethodKey, Optional<String[]>> binaryParameterNames = CacheBuilder.newBuilder().maximumSize(BINARY_PARAMETER_NAMES_CACHE_SIZE).build();
+	private static IElementChangedListener binaryParameterNamesInvalidator = null;
+
 	private List<InlayHint> hints;
 	private int startOffset;
 	private int endOffset;
 	private ITypeRoot typeRoot;
+	private IDocument document;
 	private PreferenceManager preferenceManager;
+	private Map<String, Optional<String[]>> parameterNames = new HashMap<>();
 
 	InlayHintVisitor(int startOffset, int endOffset, ITypeRoot typeRoot, PreferenceManager preferenceManager) {
 		this.startOffset = startOffset;
@@ -59,11 +94,43 @@ class InlayHintVisitor extends ASTVisitor {
 		this.typeRoot = typeRoot;
 		this.hints = new ArrayList<>();
 		this.preferenceManager = preferenceManager;
+		registerCacheInvalidator();
+	}
+
+	private static synchronized void registerCacheInvalidator() {
+		if (binaryParameterNamesInvalidator == null) {
+			binaryParameterNamesInvalidator = event -> {
+				if (isLibraryChanged(event.getDelta())) {
+					binaryParameterNames.invalidateAll();
+				}
+			};
+			JavaCore.addElementChangedListener(binaryParameterNamesInvalidator, ElementChangedEvent.POST_CHANGE);
+		}
+	}
+
+	private static boolean isLibraryChanged(IJavaElementDelta delta) {
+		if ((delta.getFlags() & LIBRARY_CHANGED_FLAGS) != 0) {
+			return true;
+		}
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			if (isLibraryChanged(child)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Nodes outside of the viewport, and so their whole subtree, are skipped.
+	 */
+	@Override
+	public boolean preVisit2(ASTNode node) {
+		return !isOutOfRange(node);
 	}
 
 	@Override
 	public boolean visit(EnumConstantDeclaration node) {
-		if (isOutOfRange(node) || isGenerated(node)) {
+		if (isGenerated(node)) {
 			return true;
 		}
 		resolveInlayHints(node.resolveConstructorBinding(), node.arguments());
@@ -72,7 +139,7 @@ class InlayHintVisitor extends ASTVisitor {
 
 	@Override
 	public boolean visit(ClassInstanceCreation node) {
-		if (isOutOfRange(node) || isGenerated(node)) {
+		if (isGenerated(node)) {
 			return true;
 		}
 		resolveInlayHints(node.resolveConstructorBinding(), node.arguments());
@@ -81,7 +148,7 @@ class InlayHintVisitor extends ASTVisitor {
 
 	@Override
 	public boolean visit(MethodInvocation node) {
-		if (isOutOfRange(node) || isGenerated(node)) {
+		if (isGenerated(node)) {
 			return true;
 		}
 		resolveInlayHints(node.resolveMethodBinding(), node.arguments());
@@ -90,7 +157,7 @@ class InlayHintVisitor extends ASTVisitor {
 
 	@Override
 	public boolean visit(SuperMethodInvocation node) {
-		if (isOutOfRange(node) || isGenerated(node)) {
+		if (isGenerated(node)) {
 			return true;
 		}
 		resolveInlayHints(node.resolveMethodBinding(), node.arguments());
@@ -99,7 +166,7 @@ class InlayHintVisitor extends ASTVisitor {
 
 	@Override
 	public boolean visit(ConstructorInvocation node) {
-		if (isOutOfRange(node) || isGenerated(node)) {
+		if (isGenerated(node)) {
 			return true;
 		}
 		resolveInlayHints(node.resolveConstructorBinding(), node.arguments());
@@ -108,7 +175,7 @@ class InlayHintVisitor extends ASTVisitor {
 
 	@Override
 	public boolean visit(SuperConstructorInvocation node) {
-		if (isOutOfRange(node) || isGenerated(node)) {
+		if (isGenerated(node)) {
 			return true;
 		}
 		resolveInlayHints(node.resolveConstructorBinding(), node.arguments());
@@ -141,9 +208,19 @@ class InlayHintVisitor extends ASTVisitor {
 	 * https://github.com/projectlombok/lombok/blob/731bb185077918af8bc1e6a9e6bb538b2d3fbbd8/src/eclipseAgent/lombok/launch/PatchFixesHider.java#L398
 	 */
 	private boolean isGenerated(ASTNode node) {
+		Optional<Field> field = generatedFields.computeIfAbsent(node.getClass(), clazz -> {
+			try {
+				return Optional.of(clazz.getField("$isGenerated"));
+			} catch (NoSuchFieldException | SecurityException e) {
+				return Optional.empty();
+			}
+		});
+		if (field.isEmpty()) {
+			return false;
+		}
 		try {
-			return (Boolean) node.getClass().getField("$isGenerated").get(node);
-		} catch (IllegalArgumentException | IllegalAccessException | NoSuchFieldException | SecurityException e) {
+			return (Boolean) field.get().get(node);
+		} catch (IllegalArgumentException | IllegalAccessException | ClassCastException e) {
 			return false;
 		}
 	}
@@ -190,7 +267,10 @@ class InlayHintVisitor extends ASTVisitor {
 					label = "..." + label;
 				}
 
-				int[] lineAndColumn = JsonRpcHelpers.toLine(typeRoot.getBuffer(), arg.getStartPosition());
+				if (document == null) {
+					document = JsonRpcHelpers.toDocument(typeRoot.getBuffer());
+				}
+				int[] lineAndColumn = JsonRpcHelpers.toLine(document, arg.getStartPosition());
 				InlayHint hint = new InlayHint(new Position(lineAndColumn[0], lineAndColumn[1]), Either.forLeft(label));
 				hints.add(hint);
 			}
@@ -200,11 +280,48 @@ class InlayHintVisitor extends ASTVisitor {
 	}
 
 	/**
-	 * Get parameter names from the method binding.
+	 * Get parameter names from the method binding. The names are cached by the
+	 * binding key, for the duration of the request for source methods and across
+	 * requests for library methods.
 	 * @param methodBinding
 	 * @return the parameter names, or <code>null</code> if it's not available.
 	 */
 	private String[] getParameterNames(IMethodBinding methodBinding) {
+		String key = methodBinding.getMethodDeclaration().getKey();
+		if (key == null) {
+			return computeParameterNames(methodBinding);
+		}
+		Optional<String[]> names = parameterNames.get(key);
+		if (names == null) {
+			IPackageFragmentRoot library = getLibrary(methodBinding);
+			if (library == null) {
+				names = Optional.ofNullable(computeParameterNames(methodBinding));
+			} else {
+				LibraryMethodKey libraryKey = new LibraryMethodKey(library.getHandleIdentifier(), key);
+				names = binaryParameterNames.getIfPresent(libraryKey);
+				if (names == null) {
+					names = Optional.ofNullable(computeParameterNames(methodBinding));
+					binaryParameterNames.put(libraryKey, names);
+				}
+			}
+			parameterNames.put(key, names);
+		}
+		return names.orElse(null);
+	}
+
+	/**
+	 * Returns the library declaring the method, or <code>null</code> if it is
+	 * declared in a source file.
+	 */
+	private IPackageFragmentRoot getLibrary(IMethodBinding methodBinding) {
+		IType type = (IType) methodBinding.getDeclaringClass().getJavaElement();
+		if (type == null || !(type.getTypeRoot() instanceof IClassFile)) {
+			return null;
+		}
+		return (IPackageFragmentRoot) type.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT);
+	}
+
+	private String[] computeParameterNames(IMethodBinding methodBinding) {
 		if (!hasSource(methodBinding)) {
 			return null;
 		}
@@ -294,4 +411,11 @@ class InlayHintVisitor extends ASTVisitor {
 		String argName = ((SimpleName) argument).getIdentifier();
 		return Objects.equals(argName, paramName);
 	}
+
+	/**
+	 * The handle of the library, that includes its project, and the binding key
+	 * of the method.
+	 */
+	private record LibraryMethodKey(String library, String method) {
+	}
 }
@@ -18,18 +18,27 @@ import java.io.StringWriter;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.text.DateFormat;
-import java.util.ArrayList;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.FormatStyle;
 import java.util.Date;
-import java.util.HashSet;
-import java.util.List;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
 import java.util.function.Predicate;
 
 import org.eclipse.core.resources.IWorkspaceRoot;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.ILogListener;
+import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.jdt.ls.core.internal.JavaClientConnection;
 import org.eclipse.jdt.ls.core.internal.LogReader;
 import org.eclipse.jdt.ls.core.internal.LogReader.LogEntry;
@@ -42,6 +51,13 @@ import com.google.gson.JsonObject;
  * The LogHandler hooks in the Eclipse log and forwards all Eclipse log messages to
  * the the client. In VSCode you can see all the messages in the Output view, in the
  * 'Java Language Support' channel.
+ *
+ * The messages are filtered on the logging thread, then queued and sent to the
+ * client by a single sender thread, so that logging never waits for the client.
+ * The queue is bounded: when the client can't keep up, or before it connects,
+ * the newest messages are dropped and their count is reported. Consecutive
+ * messages of the same type are sent in batches, and a message repeated
+ * several times in a row is only sent once, with the number of repetitions.
  */
 public class LogHandler {
 
@@ -53,17 +69,28 @@ public class LogHandler {
 	 */
 	public static Predicate<IStatus> defaultLogFilter = new DefaultLogFilter();
 	private static final String JAVA_ERROR_LOG = "java.ls.error";
+	// bounds of the replay of the entries logged before the client connected
+	private static final int MAX_REPLAYED_ENTRIES = 1000;
+	private static final long MAX_REPLAYED_BYTES = 4 * 1024 * 1024;
+	// bounds of the messages waiting to be sent to the client
+	private static final int MAX_QUEUED_MESSAGES = 10000;
+	private static final int MAX_BATCHED_MESSAGES = 100;
+	private static final int MAX_BATCH_LENGTH = 64 * 1024;
+
+	private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofLocalizedDateTime(FormatStyle.MEDIUM).withZone(ZoneId.systemDefault());
 
 	private ILogListener logListener;
-	private DateFormat dateFormat;
-	private int logLevelMask;
-	private JavaClientConnection connection;
+	private final int logLevelMask;
+	private volatile JavaClientConnection connection;
 	private Predicate<IStatus> filter;
 
-	private String firstRecordedEntryDateString;
+	private volatile long firstRecordedEntryTime;
 
-	private List<IStatus> statusCache = new ArrayList<>();
-	private Set<Integer> knownErrors = new HashSet<>();
+	private final Queue<Message> queue = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger queueSize = new AtomicInteger();
+	private final AtomicInteger droppedMessages = new AtomicInteger();
+	private volatile Thread sender;
+	private final Set<Integer> knownErrors = ConcurrentHashMap.newKeySet();
 
 	/**
 	 * Equivalent to <code>LogHandler(defaultLogFilter)</code>.
@@ -74,29 +101,54 @@ public class LogHandler {
 
 	public LogHandler(Predicate<IStatus> filter) {
 		this.filter = filter;
+		this.logLevelMask = getLogLevelMask(System.getProperty("log.level", ""));//Empty by default
 	}
 
 	public void install() {
-		this.dateFormat = DateFormat.getDateTimeInstance(DateFormat.MEDIUM, DateFormat.MEDIUM);
-		this.logLevelMask = getLogLevelMask(System.getProperty("log.level", ""));//Empty by default
-
 		this.logListener = new ILogListener() {
 			@Override
 			public void logging(IStatus status, String bundleId) {
-				String dateString = dateFormat.format(new Date());
-				if (firstRecordedEntryDateString == null) {
-					firstRecordedEntryDateString = dateString;
-				}
-				if (connection == null) {
-					statusCache.add(status);
-				} else {
-					processLogMessage(status);
-				}
+				log(status);
 			}
 		};
 		Platform.addLogListener(this.logListener);
 	}
 
+	/**
+	 * Stops forwarding the Eclipse log messages, and stops the sender thread. The
+	 * messages still queued are not sent.
+	 */
+	public void uninstall() {
+		if (this.logListener != null) {
+			Platform.removeLogListener(this.logListener);
+			this.logListener = null;
+		}
+		Thread senderThread;
+		synchronized (this) {
+			senderThread = sender;
+			sender = null;
+		}
+		if (senderThread != null) {
+			LockSupport.unpark(senderThread);
+		}
+	}
+
+	/**
+	 * Forwards the status logged in Eclipse to the client, unless it is filtered
+	 * out.
+	 */
+	public void log(IStatus status) {
+		long time = System.currentTimeMillis();
+		if (firstRecordedEntryTime == 0L) {
+			firstRecordedEntryTime = time;
+		}
+		if ((filter != null && !filter.test(status)) || !status.matches(logLevelMask)) {
+			//no op;
+			return;
+		}
+		enqueue(new Message(time, status.getSeverity(), status.getMessage(), status.getException(), null));
+	}
+
 	public void setClientConnection(JavaClientConnection clientConnection) {
 		this.connection = clientConnection;
 
@@ -104,16 +156,28 @@ public class LogHandler {
 		File workspaceFile = root.getRawLocation().makeAbsolute().toFile();
 		Path serverLogPath = Paths.get(workspaceFile.getAbsolutePath(), ".metadata", ".log");
 
-		List<LogEntry> entries = LogReader.parseLogFile(serverLogPath.toFile(), this.firstRecordedEntryDateString);
-
-		for (IStatus event : statusCache) {
-			processLogMessage(event);
+		synchronized (this) {
+			// a single sender keeps the messages in order
+			if (this.sender == null) {
+				Thread senderThread = new Thread(this::sendMessages, "Log Sender");
+				senderThread.setDaemon(true);
+				this.sender = senderThread;
+				senderThread.start();
+			}
 		}
-		statusCache.clear();
 
-		for (LogEntry e : entries) {
-			processLogMessage(e);
-		}
+		// the log file entries are compared with the precision of DateFormat.MEDIUM
+		String lastEntryDateString = this.firstRecordedEntryTime == 0L ? null : DateFormat.getDateTimeInstance(DateFormat.MEDIUM, DateFormat.MEDIUM).format(new Date(this.firstRecordedEntryTime));
+		Job replayJob = new Job("Replay workspace log") {
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				LogReader.readLastSession(serverLogPath.toFile(), lastEntryDateString, MAX_REPLAYED_ENTRIES, MAX_REPLAYED_BYTES,
+						entry -> enqueue(new Message(entry.getDate().getTime(), entry.getSeverity(), entry.getMessage(), null, entry.getStack())));
+				return Status.OK_STATUS;
+			}
+		};
+		replayJob.setSystem(true);
+		replayJob.schedule();
 	}
 
 	private int getLogLevelMask(String logLevel) {
@@ -131,53 +195,130 @@ public class LogHandler {
 		}
 	}
 
-	private void processLogMessage(LogEntry entry) {
-		String dateString = this.dateFormat.format(entry.getDate());
-		String message = entry.getMessage() + '\n' + entry.getStack();
+	/**
+	 * Queues the message for the sender thread, or drops it if the queue is full.
+	 */
+	private void enqueue(Message message) {
+		if (queueSize.incrementAndGet() > MAX_QUEUED_MESSAGES) {
+			queueSize.decrementAndGet();
+			droppedMessages.incrementAndGet();
+			return;
+		}
+		queue.offer(message);
+		Thread senderThread = sender;
+		if (senderThread != null) {
+			LockSupport.unpark(senderThread);
+		}
+	}
 
-		connection.logMessage(getMessageTypeFromSeverity(entry.getSeverity()), dateString + ' ' + message);
-		// Send a trace event to client
-		if (entry.getSeverity() == IStatus.ERROR) {
-			JsonObject properties = new JsonObject();
-			properties.addProperty("message", redact(entry.getMessage()));
-			if (entry.getStack() != null) {
-				properties.addProperty("exception", message);
-			}
-			int hashCode = properties.hashCode();
-			if (!knownErrors.contains(hashCode)) {
-				knownErrors.add(hashCode);
-				connection.telemetryEvent(new TelemetryEvent(JAVA_ERROR_LOG, properties));
+	private void sendMessages() {
+		Batch batch = new Batch();
+		while (sender == Thread.currentThread()) {
+			try {
+				Message message = queue.poll();
+				if (message == null) {
+					batch.flush();
+					reportDroppedMessages();
+					// a message queued since the poll leaves a permit, and park returns at once
+					LockSupport.park(this);
+					continue;
+				}
+				queueSize.decrementAndGet();
+				batch.add(message);
+			} catch (RuntimeException e) {
+				// the client can't be reached, the pending messages are lost
+				batch = new Batch();
 			}
 		}
 	}
-	private void processLogMessage(IStatus status) {
-		if ((filter != null && !filter.test(status)) || !status.matches(this.logLevelMask)) {
-			//no op;
-			return;
+
+	private void reportDroppedMessages() {
+		int dropped = droppedMessages.getAndSet(0);
+		if (dropped > 0) {
+			connection.logMessage(MessageType.Warning, DATE_FORMATTER.format(Instant.now()) + ' ' + dropped + " log messages were dropped");
 		}
-		String dateString = this.dateFormat.format(new Date());
-		String message = status.getMessage();
-		if (status.getException() != null) {
-			message = message + '\n' + status.getException().getMessage();
-			StringWriter sw = new StringWriter();
-			status.getException().printStackTrace(new PrintWriter(sw));
-			String exceptionAsString = sw.toString();
-			message = message + '\n' + exceptionAsString;
+	}
+
+	/**
+	 * Consecutive messages of the same type, waiting to be sent to the client in
+	 * a single notification. Only used by the sender thread.
+	 */
+	private class Batch {
+		private final StringBuilder text = new StringBuilder();
+		private MessageType type;
+		private int size;
+		private String lastMessage;
+		private int repeated;
+
+		void add(Message message) {
+			String formatted = message.format();
+			MessageType messageType = getMessageTypeFromSeverity(message.severity());
+			if (messageType == type && formatted.equals(lastMessage)) {
+				repeated++;
+			} else {
+				if (messageType != type || size >= MAX_BATCHED_MESSAGES || text.length() >= MAX_BATCH_LENGTH) {
+					flush();
+				}
+				appendRepeated();
+				if (size > 0) {
+					text.append('\n');
+				}
+				text.append(DATE_FORMATTER.format(Instant.ofEpochMilli(message.time()))).append(' ').append(formatted);
+				type = messageType;
+				lastMessage = formatted;
+				size++;
+			}
+			if (message.severity() == IStatus.ERROR) {
+				sendTelemetry(message, formatted);
+			}
+		}
+
+		void flush() {
+			appendRepeated();
+			if (size > 0) {
+				connection.logMessage(type, text.toString());
+			}
+			text.setLength(0);
+			type = null;
+			size = 0;
+			lastMessage = null;
 		}
 
-		connection.logMessage(getMessageTypeFromSeverity(status.getSeverity()), dateString + ' ' + message);
+		private void appendRepeated() {
+			if (repeated > 0) {
+				text.append(" (repeated ").append(repeated).append(repeated == 1 ? " time)" : " times)");
+				repeated = 0;
+			}
+		}
+	}
+
+	private void sendTelemetry(Message message, String formatted) {
 		// Send a trace event to client
-		if (status.getSeverity() == IStatus.ERROR) {
-			JsonObject properties = new JsonObject();
-			properties.addProperty("message", redact(status.getMessage()));
-			if (status.getException() != null) {
-				properties.addProperty("exception", message);
+		JsonObject properties = new JsonObject();
+		properties.addProperty("message", redact(message.message()));
+		if (message.exception() != null || message.stack() != null) {
+			properties.addProperty("exception", formatted);
+		}
+		if (knownErrors.add(properties.hashCode())) {
+			connection.telemetryEvent(new TelemetryEvent(JAVA_ERROR_LOG, properties));
+		}
+	}
+
+	/**
+	 * A message to send to the client, formatted by the sender thread.
+	 */
+	private record Message(long time, int severity, String message, Throwable exception, String stack) {
+
+		String format() {
+			if (exception != null) {
+				StringWriter sw = new StringWriter();
+				exception.printStackTrace(new PrintWriter(sw));
+				return message + '\n' + exception.getMessage() + '\n' + sw.toString();
 			}
-			int hashCode = properties.hashCode();
-			if (!knownErrors.contains(hashCode)) {
-				knownErrors.add(hashCode);
-				connection.telemetryEvent(new TelemetryEvent(JAVA_ERROR_LOG, properties));
+			if (stack != null) {
+				return message + '\n' + stack;
 			}
+			return message;
 		}
 	}
 
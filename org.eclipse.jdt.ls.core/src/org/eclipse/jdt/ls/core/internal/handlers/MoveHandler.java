@@ -104,7 +104,7 @@ public class MoveHandler {
 		}
 
 		if ("moveResource".equalsIgnoreCase(moveParams.moveKind)) {
-			return getPackageDestinations(moveParams.sourceUris);
+			return getPackageDestinations(moveParams.sourceUris, moveParams.prefix);
 		} else if ("moveInstanceMethod".equalsIgnoreCase(moveParams.moveKind)) {
 			return getInstanceMethodDestinations(moveParams.params);
 		}
@@ -113,6 +113,14 @@ public class MoveHandler {
 	}
 
 	public static MoveDestinationsResponse getPackageDestinations(String[] documentUris) {
+		return getPackageDestinations(documentUris, null);
+	}
+
+	/**
+	 * Returns the packages the files can be moved to, whose name starts with the
+	 * prefix, or all of them if the prefix is <code>null</code>.
+	 */
+	public static MoveDestinationsResponse getPackageDestinations(String[] documentUris, String prefix) {
 		if (documentUris == null) {
 			documentUris = new String[0];
 		}
@@ -157,24 +165,13 @@ public class MoveHandler {
 		Set<PackageNode> packageNodes = new LinkedHashSet<>();
 		try {
 			for (IJavaProject project : targetProjects) {
-				for (IClasspathEntry entry : project.getRawClasspath()) {
-					if (entry.getEntryKind() == IClasspathEntry.CPE_SOURCE) {
-						IPackageFragmentRoot[] roots = project.findPackageFragmentRoots(entry);
-						for (IPackageFragmentRoot root : roots) {
-							if (root.isArchive() || root.isExternal()) {
-								continue;
-							}
-
-							IJavaElement[] fragments = root.getChildren();
-							for (IJavaElement fragment : fragments) {
-								if (fragment instanceof IPackageFragment pkg) {
-									PackageNode packageNode = PackageNode.createPackageNode(pkg);
-									packageNode.setParentOfSelectedFile(selectedPackages.contains(fragment));
-									packageNodes.add(packageNode);
-								}
-							}
-						}
+				for (IPackageFragment fragment : PackageDestinationCache.instance().getPackages(project)) {
+					if (prefix != null && !fragment.getElementName().startsWith(prefix)) {
+						continue;
 					}
+					PackageNode packageNode = PackageNode.createPackageNode(fragment);
+					packageNode.setParentOfSelectedFile(selectedPackages.contains(fragment));
+					packageNodes.add(packageNode);
 				}
 			}
 		} catch (JavaModelException e) {
@@ -727,6 +724,11 @@ public class MoveHandler {
 		 */
 		Object destination;
 		boolean updateReferences;
+		/**
+		 * The prefix of the names of the destination packages, when moving
+		 * resources.
+		 */
+		String prefix;
 
 		public MoveParams(String moveKind, String[] sourceUris) {
 			this(moveKind, sourceUris, null);
@@ -20,6 +20,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.eclipse.core.resources.IResource;
@@ -71,15 +72,16 @@ public final class OrganizeImportsHandler {
 		OrganizeImportsOperation op = new OrganizeImportsOperation(unit, astRoot, true, false, true, chooseImports != null ? (TypeNameMatch[][] openChoices, ISourceRange[] ranges) -> {
 			List<ImportSelection> selections = new ArrayList<>();
 			for (int i = 0; i < openChoices.length; i++) {
-				ImportCandidate[] candidates = Stream.of(openChoices[i]).map((choice) -> new ImportCandidate(choice)).toArray(ImportCandidate[]::new);
+				List<ImportCandidate> candidates = Stream.of(openChoices[i]).map((choice) -> new ImportCandidate(choice)).collect(Collectors.toCollection(ArrayList::new));
+				// Rank the ambiguous candidates by how often the project already imports them.
+				ImportedTypesIndex.instance().sortByImportCount(unit.getJavaProject(), candidates, candidate -> candidate.fullyQualifiedName);
 				Range range = null;
 				try {
 					range = JDTUtils.toRange(unit, ranges[i].getOffset(), ranges[i].getLength());
 				} catch (JavaModelException e) {
 					range = JDTUtils.newRange();
 				}
-				// TODO Sort the ambiguous candidates based on a relevance score.
-				selections.add(new ImportSelection(candidates, range));
+				selections.add(new ImportSelection(candidates.toArray(ImportCandidate[]::new), range));
 			}
 
 			ImportCandidate[] chosens = chooseImports.apply(selections.toArray(new ImportSelection[0]));
@@ -0,0 +1,167 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal.handlers;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+
+/**
+ * Lists the packages of the source folders of each project, that are the
+ * destinations of the files moved to another package.
+ *
+ * The listing of a project is kept up to date from the deltas of the Java
+ * model: the packages that are added or removed are added to or removed from
+ * it, and it is dropped when the source folders of the project change, to be
+ * computed again on the next request.
+ */
+class PackageDestinationCache {
+
+	private static final int PROJECT_CHANGED_FLAGS = IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_OPENED | IJavaElementDelta.F_CLOSED;
+
+	private static final int ROOT_CHANGED_FLAGS = IJavaElementDelta.F_ADDED_TO_CLASSPATH | IJavaElementDelta.F_REMOVED_FROM_CLASSPATH | IJavaElementDelta.F_REORDER;
+
+	private final Map<IJavaProject, List<IPackageFragment>> packages = new ConcurrentHashMap<>();
+
+	/**
+	 * Incremented on each change of the packages, so that a listing computed
+	 * concurrently is not cached.
+	 */
+	private final AtomicLong generation = new AtomicLong();
+
+	private static class InstanceHolder {
+		public static PackageDestinationCache instance = new PackageDestinationCache();
+	}
+
+	private PackageDestinationCache() {
+		JavaCore.addElementChangedListener(event -> processDelta(event.getDelta()), ElementChangedEvent.POST_CHANGE);
+	}
+
+	static PackageDestinationCache instance() {
+		return InstanceHolder.instance;
+	}
+
+	/**
+	 * Returns the packages of the source folders of the project, in the order of
+	 * its classpath.
+	 */
+	List<IPackageFragment> getPackages(IJavaProject project) throws JavaModelException {
+		List<IPackageFragment> fragments = packages.get(project);
+		if (fragments == null) {
+			long listedGeneration = generation.get();
+			fragments = Collections.unmodifiableList(listPackages(project));
+			if (listedGeneration == generation.get()) {
+				packages.put(project, fragments);
+			}
+		}
+		return fragments;
+	}
+
+	private static List<IPackageFragment> listPackages(IJavaProject project) throws JavaModelException {
+		List<IPackageFragment> fragments = new ArrayList<>();
+		for (IClasspathEntry entry : project.getRawClasspath()) {
+			if (entry.getEntryKind() == IClasspathEntry.CPE_SOURCE) {
+				IPackageFragmentRoot[] roots = project.findPackageFragmentRoots(entry);
+				for (IPackageFragmentRoot root : roots) {
+					if (root.isArchive() || root.isExternal()) {
+						continue;
+					}
+
+					for (IJavaElement fragment : root.getChildren()) {
+						if (fragment instanceof IPackageFragment pkg) {
+							fragments.add(pkg);
+						}
+					}
+				}
+			}
+		}
+		return fragments;
+	}
+
+	private void processDelta(IJavaElementDelta delta) {
+		IJavaElement element = delta.getElement();
+		switch (element.getElementType()) {
+		case IJavaElement.JAVA_MODEL:
+			break;
+		case IJavaElement.JAVA_PROJECT:
+			if (delta.getKind() != IJavaElementDelta.CHANGED || (delta.getFlags() & PROJECT_CHANGED_FLAGS) != 0) {
+				drop(element.getJavaProject());
+				return;
+			}
+			break;
+		case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+			if (delta.getKind() != IJavaElementDelta.CHANGED || (delta.getFlags() & ROOT_CHANGED_FLAGS) != 0) {
+				drop(element.getJavaProject());
+				return;
+			}
+			break;
+		case IJavaElement.PACKAGE_FRAGMENT:
+			if (delta.getKind() == IJavaElementDelta.ADDED) {
+				update(element.getJavaProject(), fragments -> add(fragments, (IPackageFragment) element));
+			} else if (delta.getKind() == IJavaElementDelta.REMOVED) {
+				update(element.getJavaProject(), fragments -> fragments.remove(element));
+			}
+			return;
+		default:
+			return;
+		}
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			processDelta(child);
+		}
+	}
+
+	private void drop(IJavaProject project) {
+		generation.incrementAndGet();
+		packages.remove(project);
+	}
+
+	private void update(IJavaProject project, Consumer<List<IPackageFragment>> change) {
+		generation.incrementAndGet();
+		packages.computeIfPresent(project, (key, fragments) -> {
+			List<IPackageFragment> updated = new ArrayList<>(fragments);
+			change.accept(updated);
+			return Collections.unmodifiableList(updated);
+		});
+	}
+
+	/**
+	 * Adds the package after the other packages of its source folder, unless the
+	 * source folder isn't listed.
+	 */
+	private static void add(List<IPackageFragment> fragments, IPackageFragment fragment) {
+		if (fragments.contains(fragment)) {
+			return;
+		}
+		IJavaElement root = fragment.getParent();
+		for (int i = fragments.size() - 1; i >= 0; i--) {
+			if (fragments.get(i).getParent().equals(root)) {
+				fragments.add(i + 1, fragment);
+				return;
+			}
+		}
+	}
+}
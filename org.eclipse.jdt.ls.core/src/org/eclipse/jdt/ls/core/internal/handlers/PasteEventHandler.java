@@ -300,7 +300,7 @@ public class PasteEventHandler {
 		if (offset <= sourceRange.getOffset() || offset + length >= sourceRange.getOffset() + sourceRange.getLength()) {
 			return null;
 		}
-		Function<ImportSelection[], ImportCandidate[]> chooseFunc = null;
+		Function<ImportSelection[], ImportCandidate[]> chooseFunc = (selections) -> chooseImportedCandidates(cu.getJavaProject(), selections, Set.of());
 		ICompilationUnit tempUnit = RenameAnalyzeUtil.createNewWorkingCopy(cu, new TextChangeManager(true), new WorkingCopyOwner() {
 		}, new SubProgressMonitor(monitor == null ? new NullProgressMonitor() : monitor, 1));
 		tempUnit.applyTextEdit(new ReplaceEdit(offset, length, insertText), monitor);
@@ -317,18 +317,7 @@ public class PasteEventHandler {
 			}
 			if (tempOriginalUnit != null) {
 				Set<String> names = Arrays.stream(tempOriginalUnit.getImports()).map(importDecl -> importDecl.getElementName()).filter(name -> name != null).collect(Collectors.toSet());
-				chooseFunc = (selections) -> {
-					List<ImportCandidate> candidates = new ArrayList<>();
-					for (ImportSelection selection : selections) {
-						for (ImportCandidate candidate : selection.candidates) {
-							if (names.contains(candidate.fullyQualifiedName)) {
-								candidates.add(candidate);
-								break;
-							}
-						}
-					}
-					return candidates.toArray(new ImportCandidate[] {});
-				};
+				chooseFunc = (selections) -> chooseImportedCandidates(cu.getJavaProject(), selections, names);
 			}
 			if (isClassFile) {
 				tempOriginalUnit.discardWorkingCopy();
@@ -343,6 +332,25 @@ public class PasteEventHandler {
 		return new DocumentPasteEdit(insertText, workspaceEdit);
 	}
 
+	/**
+	 * Chooses, for each ambiguous type, the candidate imported by the document the
+	 * text was copied from, or else the candidate the project imports the most.
+	 */
+	private static ImportCandidate[] chooseImportedCandidates(IJavaProject project, ImportSelection[] selections, Set<String> originalImports) {
+		List<ImportCandidate> candidates = new ArrayList<>();
+		for (ImportSelection selection : selections) {
+			ImportCandidate chosen = Arrays.stream(selection.candidates).filter(candidate -> originalImports.contains(candidate.fullyQualifiedName)).findFirst().orElse(null);
+			if (chosen == null) {
+				String preferred = ImportedTypesIndex.instance().getPreferredCandidate(project, Arrays.stream(selection.candidates).map(candidate -> candidate.fullyQualifiedName).toList());
+				chosen = Arrays.stream(selection.candidates).filter(candidate -> Objects.equals(candidate.fullyQualifiedName, preferred)).findFirst().orElse(null);
+			}
+			if (chosen != null) {
+				candidates.add(chosen);
+			}
+		}
+		return candidates.toArray(new ImportCandidate[] {});
+	}
+
 	private static String getEol(String text) {
 		return text.contains("\r\n") ? "\r\n" : "\n";
 	}
@@ -77,6 +77,10 @@ public class PrepareRenameHandler {
 									ASTNode node = context.getCoveredNode();
 									// Rename package is not fully supported yet.
 									if (!isBinaryOrPackage(node)) {
+										if (elements.length == 1) {
+											// the new name is typed in the meantime
+											SpeculativeRenameSearch.instance().prepare(params.getTextDocument().getUri(), params.getPosition().getLine(), params.getPosition().getCharacter(), elements[0]);
+										}
 										return JDTUtils.toRange(unit, loc.getOffset(), loc.getLength());
 									}
 								}
@@ -22,6 +22,7 @@ import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.ls.core.internal.ChangeUtil;
 import org.eclipse.jdt.ls.core.internal.JDTUtils;
 import org.eclipse.jdt.ls.core.internal.JavaLanguageServerPlugin;
@@ -61,24 +62,12 @@ public class RenameHandler {
 		try {
 			final ICompilationUnit unit = JDTUtils.resolveCompilationUnit(params.getTextDocument().getUri());
 
-			IJavaElement[] elements = JDTUtils.findElementsAtSelection(unit, params.getPosition().getLine(), params.getPosition().getCharacter(), this.preferenceManager, monitor);
-			if (elements == null || elements.length == 0) {
-				return edit;
+			IJavaElement curr = SpeculativeRenameSearch.instance().getElement(params.getTextDocument().getUri(), params.getPosition().getLine(), params.getPosition().getCharacter());
+			if (curr == null) {
+				curr = findElementToRename(unit, params, monitor);
 			}
-			IJavaElement curr = null;
-			if (elements.length != 1) {
-				// they could be package fragments.
-				// We need to select the one that matches the package fragment of the current unit
-				IPackageFragment packageFragment = (IPackageFragment) unit.getParent();
-				IJavaElement found = Stream.of(elements).filter(e -> e.equals(packageFragment)).findFirst().orElse(null);
-				if (found == null) {
-					// this would be a binary package fragment
-					curr = elements[0];
-				} else {
-					curr = found;
-				}
-			} else {
-				curr = elements[0];
+			if (curr == null) {
+				return edit;
 			}
 
 			RenameSupport renameSupport = RenameSupport.create(curr, params.getNewName(), RenameSupport.UPDATE_REFERENCES | RenameSupport.UPDATE_GETTER_METHOD | RenameSupport.UPDATE_SETTER_METHOD);
@@ -102,4 +91,23 @@ public class RenameHandler {
 
 		return edit;
 	}
+
+	private IJavaElement findElementToRename(ICompilationUnit unit, RenameParams params, IProgressMonitor monitor) throws JavaModelException {
+		IJavaElement[] elements = JDTUtils.findElementsAtSelection(unit, params.getPosition().getLine(), params.getPosition().getCharacter(), this.preferenceManager, monitor);
+		if (elements == null || elements.length == 0) {
+			return null;
+		}
+		if (elements.length != 1) {
+			// they could be package fragments.
+			// We need to select the one that matches the package fragment of the current unit
+			IPackageFragment packageFragment = (IPackageFragment) unit.getParent();
+			IJavaElement found = Stream.of(elements).filter(e -> e.equals(packageFragment)).findFirst().orElse(null);
+			if (found == null) {
+				// this would be a binary package fragment
+				return elements[0];
+			}
+			return found;
+		}
+		return elements[0];
+	}
 }
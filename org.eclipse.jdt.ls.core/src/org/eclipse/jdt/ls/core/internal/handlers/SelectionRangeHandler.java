@@ -15,7 +15,9 @@ package org.eclipse.jdt.ls.core.internal.handlers;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.ListIterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.jdt.core.ITypeRoot;
@@ -33,8 +35,17 @@ import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.SelectionRange;
 import org.eclipse.lsp4j.SelectionRangeParams;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
 public class SelectionRangeHandler {
 
+	/**
+	 * The selection ranges computed on the recent ASTs. The shared AST is only
+	 * replaced when its document changes, so it identifies the document version.
+	 */
+	private static final Cache<CompilationUnit, AstSelectionRanges> rangesByAst = CacheBuilder.newBuilder().weakKeys().maximumSize(4).build();
+
 	public List<SelectionRange> selectionRange(SelectionRangeParams params, IProgressMonitor monitor) {
 		if (params.getPositions() == null || params.getPositions().isEmpty()) {
 			return Collections.emptyList();
@@ -49,43 +60,18 @@ public class SelectionRangeHandler {
 		if (ast == null) {
 			return Collections.emptyList();
 		}
-		// extra logic to check within the line comments and block comments, which are not parts of the AST
-		@SuppressWarnings("unchecked")
-		List<Comment> comments = new ArrayList<Comment>(ast.getCommentList());
-		comments.removeIf(Javadoc.class::isInstance); // Javadoc nodes are already in the AST
+		AstSelectionRanges ranges;
+		try {
+			ranges = rangesByAst.get(ast, () -> new AstSelectionRanges(root, ast));
+		} catch (ExecutionException e) {
+			ranges = new AstSelectionRanges(root, ast);
+		}
 
 		List<SelectionRange> $ = new ArrayList<>();
 		for (Position pos : params.getPositions()) {
 			try {
 				int offset = JsonRpcHelpers.toOffset(root.getBuffer(), pos.getLine(), pos.getCharacter());
-				ASTNode node = NodeFinder.perform(ast, offset, 0);
-				if (node == null) {
-					continue;
-				}
-
-				// find all the ancestors
-				List<ASTNode> nodes = new ArrayList<>();
-				while (node != null) {
-					nodes.add(node);
-					node = node.getParent();
-				}
-
-				// find all the ranges corresponding to the parent nodes
-				SelectionRange selectionRange = null;
-				ListIterator<ASTNode> iterator = nodes.listIterator(nodes.size());
-				while (iterator.hasPrevious()) {
-					node = iterator.previous();
-					Range range = JDTUtils.toRange(root, node.getStartPosition(), node.getLength());
-					selectionRange = new SelectionRange(range, selectionRange);
-				}
-
-				// find in comments
-				ASTNode containingComment = containingComment(comments, offset);
-				if (containingComment != null) {
-					Range range = JDTUtils.toRange(root, containingComment.getStartPosition(), containingComment.getLength());
-					selectionRange = new SelectionRange(range, selectionRange);
-				}
-
+				SelectionRange selectionRange = ranges.getSelectionRange(offset);
 				if (selectionRange != null) {
 					$.add(selectionRange);
 				}
@@ -101,17 +87,102 @@ public class SelectionRangeHandler {
 	 * Finds the comment that contains the specified position
 	 *
 	 * @param comments
+	 *            the comments, sorted by offset
 	 * @param offset
 	 * @return
 	 */
 	public ASTNode containingComment(List<Comment> comments, int offset) {
-		for (Comment comment : comments) {
-			ASTNode result = NodeFinder.perform(comment, offset, 0);
-			if (result != null) {
-				return result;
+		return findContainingComment(comments, offset);
+	}
+
+	private static ASTNode findContainingComment(List<Comment> comments, int offset) {
+		// find the last comment starting at or before the offset
+		int low = 0;
+		int high = comments.size() - 1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			if (comments.get(mid).getStartPosition() <= offset) {
+				low = mid + 1;
+			} else {
+				high = mid - 1;
+			}
+		}
+		// a comment may end where the next one starts, prefer the first one
+		for (int i = Math.max(high - 1, 0); i <= high; i++) {
+			Comment comment = comments.get(i);
+			if (offset <= comment.getStartPosition() + comment.getLength()) {
+				return comment;
 			}
 		}
 
 		return null;
 	}
+
+	/**
+	 * The selection ranges of the positions of an AST. The range of a node is
+	 * computed once and shared as the parent of the ranges of its children, and
+	 * the range of each position is memoized.
+	 */
+	private static class AstSelectionRanges {
+
+		private final ITypeRoot root;
+		private final CompilationUnit ast;
+		private final List<Comment> comments;
+		private final Map<ASTNode, SelectionRange> nodeRanges = new ConcurrentHashMap<>();
+		private final Map<Integer, SelectionRange> positionRanges = new ConcurrentHashMap<>();
+
+		@SuppressWarnings("unchecked")
+		AstSelectionRanges(ITypeRoot root, CompilationUnit ast) {
+			this.root = root;
+			this.ast = ast;
+			// extra logic to check within the line comments and block comments, which are not parts of the AST
+			this.comments = new ArrayList<Comment>(ast.getCommentList());
+			this.comments.removeIf(Javadoc.class::isInstance); // Javadoc nodes are already in the AST
+		}
+
+		SelectionRange getSelectionRange(int offset) throws JavaModelException {
+			SelectionRange selectionRange = positionRanges.get(offset);
+			if (selectionRange != null) {
+				return selectionRange;
+			}
+			ASTNode node = NodeFinder.perform(ast, offset, 0);
+			if (node == null) {
+				return null;
+			}
+			selectionRange = getSelectionRange(node);
+
+			// find in comments
+			ASTNode containingComment = findContainingComment(comments, offset);
+			if (containingComment != null) {
+				Range range = JDTUtils.toRange(root, containingComment.getStartPosition(), containingComment.getLength());
+				selectionRange = new SelectionRange(range, selectionRange);
+			}
+
+			positionRanges.put(offset, selectionRange);
+			return selectionRange;
+		}
+
+		private SelectionRange getSelectionRange(ASTNode node) throws JavaModelException {
+			// find the ancestors whose ranges are not computed yet
+			List<ASTNode> nodes = new ArrayList<>();
+			SelectionRange selectionRange = null;
+			while (node != null) {
+				selectionRange = nodeRanges.get(node);
+				if (selectionRange != null) {
+					break;
+				}
+				nodes.add(node);
+				node = node.getParent();
+			}
+
+			// find all the ranges corresponding to the parent nodes
+			for (int i = nodes.size() - 1; i >= 0; i--) {
+				node = nodes.get(i);
+				Range range = JDTUtils.toRange(root, node.getStartPosition(), node.getLength());
+				selectionRange = new SelectionRange(range, selectionRange);
+				nodeRanges.put(node, selectionRange);
+			}
+			return selectionRange;
+		}
+	}
 }
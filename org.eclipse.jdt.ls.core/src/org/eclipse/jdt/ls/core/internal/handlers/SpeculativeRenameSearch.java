@@ -0,0 +1,163 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal.handlers;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchMatch;
+import org.eclipse.jdt.core.search.SearchParticipant;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.SearchRequestor;
+import org.eclipse.jdt.ls.core.internal.JavaLanguageServerPlugin;
+
+/**
+ * Remembers the element resolved by <code>textDocument/prepareRename</code>
+ * and searches its references in the background while the user types the new
+ * name, so that <code>textDocument/rename</code> reuses the element and runs
+ * its own search on indexes that are already loaded. The background search
+ * only warms up the indexes: it is cancelled once the rename starts.
+ *
+ * The element is stamped with the generation of the Java model, that is
+ * incremented on each change or reconcile. It is only reused if nothing
+ * changed since the prepare step, and the background search is cancelled as
+ * soon as something does.
+ */
+public class SpeculativeRenameSearch {
+
+	private static final int SEARCHED_ELEMENTS = 1 << IJavaElement.TYPE | 1 << IJavaElement.FIELD | 1 << IJavaElement.METHOD;
+
+	/**
+	 * Incremented on each change of the Java model.
+	 */
+	private final AtomicLong generation = new AtomicLong();
+
+	private Prepared prepared;
+
+	private static class InstanceHolder {
+		public static SpeculativeRenameSearch instance = new SpeculativeRenameSearch();
+	}
+
+	private SpeculativeRenameSearch() {
+		JavaCore.addElementChangedListener(event -> {
+			generation.incrementAndGet();
+			discard();
+		}, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+	}
+
+	public static SpeculativeRenameSearch instance() {
+		return InstanceHolder.instance;
+	}
+
+	/**
+	 * Remembers the element to rename at the position of the document, and
+	 * starts searching its references.
+	 */
+	public void prepare(String uri, int line, int character, IJavaElement element) {
+		Job search = null;
+		if ((SEARCHED_ELEMENTS & 1 << element.getElementType()) != 0) {
+			search = new ReferenceSearchJob(element);
+		}
+		Prepared previous;
+		synchronized (this) {
+			previous = prepared;
+			prepared = new Prepared(uri, line, character, element, generation.get(), search);
+		}
+		if (previous != null && previous.search() != null) {
+			previous.search().cancel();
+		}
+		if (search != null) {
+			search.schedule();
+		}
+	}
+
+	/**
+	 * Returns the element prepared at the position of the document, or
+	 * <code>null</code> if it must be resolved again. The background search of
+	 * the element is cancelled, so that it does not compete with the search of
+	 * the rename.
+	 */
+	public IJavaElement getElement(String uri, int line, int character) {
+		Prepared current;
+		synchronized (this) {
+			current = prepared;
+			prepared = null;
+		}
+		if (current == null) {
+			return null;
+		}
+		if (current.search() != null) {
+			current.search().cancel();
+		}
+		if (!current.uri().equals(uri) || current.line() != line || current.character() != character || current.generation() != generation.get()) {
+			return null;
+		}
+		return current.element();
+	}
+
+	private void discard() {
+		Prepared current;
+		synchronized (this) {
+			current = prepared;
+			prepared = null;
+		}
+		if (current != null && current.search() != null) {
+			current.search().cancel();
+		}
+	}
+
+	private record Prepared(String uri, int line, int character, IJavaElement element, long generation, Job search) {
+	}
+
+	private static class ReferenceSearchJob extends Job {
+
+		private final IJavaElement element;
+
+		ReferenceSearchJob(IJavaElement element) {
+			super("Search references of " + element.getElementName());
+			this.element = element;
+			setSystem(true);
+		}
+
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			SearchPattern pattern = SearchPattern.createPattern(element, IJavaSearchConstants.REFERENCES);
+			if (pattern == null) {
+				return Status.OK_STATUS;
+			}
+			try {
+				new SearchEngine().search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() }, SearchEngine.createWorkspaceScope(), new SearchRequestor() {
+					@Override
+					public void acceptSearchMatch(SearchMatch match) {
+						// only the search itself matters
+					}
+				}, monitor);
+			} catch (OperationCanceledException e) {
+				return Status.CANCEL_STATUS;
+			} catch (CoreException e) {
+				JavaLanguageServerPlugin.logException("Problem searching the references of " + element.getElementName(), e);
+			}
+			return monitor.isCanceled() ? Status.CANCEL_STATUS : Status.OK_STATUS;
+		}
+	}
+}
@@ -0,0 +1,175 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal.handlers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.ITypeHierarchy;
+import org.eclipse.jdt.core.ITypeHierarchyChangedListener;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.internal.core.DefaultWorkingCopyOwner;
+import org.eclipse.jdt.internal.core.JavaModelManager;
+
+/**
+ * Keeps the most recently computed type hierarchies, so that expanding the
+ * items of a hierarchy one level at a time does not compute a new hierarchy
+ * for each of them. The subtypes of a type are answered from any cached full
+ * hierarchy the type belongs to as a subtype of the focus, and its supertypes
+ * from any cached hierarchy the type belongs to as a supertype of the focus.
+ *
+ * Each hierarchy listens to the changes of the Java model and is dropped as
+ * soon as it is notified, the next request computes it again.
+ */
+public class TypeHierarchyCache {
+
+	private static final int MAX_HIERARCHIES = 8;
+
+	private final Map<Key, ITypeHierarchy> hierarchies = new LinkedHashMap<>(MAX_HIERARCHIES, 0.75f, true);
+
+	/**
+	 * Drops a hierarchy as soon as a change of the Java model affects it.
+	 */
+	private final ITypeHierarchyChangedListener listener = hierarchy -> {
+		hierarchy.removeTypeHierarchyChangedListener(this.listener);
+		synchronized (this) {
+			hierarchies.values().removeIf(h -> h == hierarchy);
+		}
+	};
+
+	private static class InstanceHolder {
+		public static TypeHierarchyCache instance = new TypeHierarchyCache();
+	}
+
+	private TypeHierarchyCache() {
+	}
+
+	public static TypeHierarchyCache instance() {
+		return InstanceHolder.instance;
+	}
+
+	/**
+	 * Returns the direct supertypes of the type, taking the primary working
+	 * copies into account.
+	 */
+	public IType[] getSupertypes(IType type, IProgressMonitor monitor) throws JavaModelException {
+		ITypeHierarchy hierarchy = findSupertypeHierarchy(type);
+		if (hierarchy == null) {
+			hierarchy = type.newSupertypeHierarchy(DefaultWorkingCopyOwner.PRIMARY, monitor);
+			put(new Key(type, true), hierarchy);
+		}
+		return hierarchy.getSupertypes(type);
+	}
+
+	/**
+	 * Returns the direct subtypes of the type, taking the primary working copies
+	 * into account.
+	 */
+	public IType[] getSubtypes(IType type, IProgressMonitor monitor) throws JavaModelException {
+		return getTypeHierarchy(type, monitor).getSubtypes(type);
+	}
+
+	/**
+	 * Returns all the subtypes of the type, taking the primary working copies
+	 * into account.
+	 */
+	public IType[] getAllSubtypes(IType type, IProgressMonitor monitor) throws JavaModelException {
+		return getTypeHierarchy(type, monitor).getAllSubtypes(type);
+	}
+
+	private ITypeHierarchy getTypeHierarchy(IType type, IProgressMonitor monitor) throws JavaModelException {
+		ITypeHierarchy hierarchy = findTypeHierarchy(type);
+		if (hierarchy == null) {
+			ICompilationUnit[] workingCopies = JavaModelManager.getJavaModelManager().getWorkingCopies(DefaultWorkingCopyOwner.PRIMARY, true);
+			hierarchy = type.newTypeHierarchy(workingCopies, monitor);
+			put(new Key(type, false), hierarchy);
+		}
+		return hierarchy;
+	}
+
+	/**
+	 * Returns a cached hierarchy holding all the supertypes of the type, that is
+	 * one whose focus is the type or one of its subtypes.
+	 */
+	private synchronized ITypeHierarchy findSupertypeHierarchy(IType type) {
+		ITypeHierarchy hierarchy = hierarchies.get(new Key(type, true));
+		if (hierarchy == null) {
+			hierarchy = hierarchies.get(new Key(type, false));
+		}
+		if (hierarchy != null) {
+			return hierarchy;
+		}
+		for (Entry<Key, ITypeHierarchy> entry : hierarchies.entrySet()) {
+			if (Arrays.asList(entry.getValue().getAllSupertypes(entry.getKey().focus())).contains(type)) {
+				return touch(entry);
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns a cached full hierarchy holding all the subtypes of the type, that
+	 * is one whose focus is the type or one of its supertypes.
+	 */
+	private synchronized ITypeHierarchy findTypeHierarchy(IType type) {
+		ITypeHierarchy hierarchy = hierarchies.get(new Key(type, false));
+		if (hierarchy != null) {
+			return hierarchy;
+		}
+		for (Entry<Key, ITypeHierarchy> entry : hierarchies.entrySet()) {
+			if (!entry.getKey().supertypesOnly() && Arrays.asList(entry.getValue().getAllSupertypes(type)).contains(entry.getKey().focus())) {
+				return touch(entry);
+			}
+		}
+		return null;
+	}
+
+	private ITypeHierarchy touch(Entry<Key, ITypeHierarchy> entry) {
+		// move the entry to the most recently used position
+		return hierarchies.get(entry.getKey());
+	}
+
+	private void put(Key key, ITypeHierarchy hierarchy) {
+		hierarchy.addTypeHierarchyChangedListener(listener);
+		List<ITypeHierarchy> evicted = new ArrayList<>();
+		synchronized (this) {
+			ITypeHierarchy previous = hierarchies.put(key, hierarchy);
+			if (previous != null) {
+				evicted.add(previous);
+			}
+			Iterator<ITypeHierarchy> iterator = hierarchies.values().iterator();
+			while (hierarchies.size() > MAX_HIERARCHIES && iterator.hasNext()) {
+				evicted.add(iterator.next());
+				iterator.remove();
+			}
+		}
+		evicted.forEach(h -> h.removeTypeHierarchyChangedListener(listener));
+	}
+
+	// for test only
+	public synchronized void clear() {
+		hierarchies.values().forEach(h -> h.removeTypeHierarchyChangedListener(listener));
+		hierarchies.clear();
+	}
+
+	private record Key(IType focus, boolean supertypesOnly) {
+	}
+}
@@ -27,12 +27,9 @@ import org.eclipse.jdt.core.IMethod;
 import org.eclipse.jdt.core.IOrdinaryClassFile;
 import org.eclipse.jdt.core.IPackageFragment;
 import org.eclipse.jdt.core.IType;
-import org.eclipse.jdt.core.ITypeHierarchy;
 import org.eclipse.jdt.core.ITypeRoot;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
-import org.eclipse.jdt.internal.core.DefaultWorkingCopyOwner;
-import org.eclipse.jdt.internal.core.JavaModelManager;
 import org.eclipse.jdt.ls.core.internal.JDTUtils;
 import org.eclipse.jdt.ls.core.internal.JDTUtils.LocationType;
 import org.eclipse.jdt.ls.core.internal.JSONUtility;
@@ -150,16 +147,12 @@ public class TypeHierarchyHandler {
 			type = member.getDeclaringType();
 		}
 		try {
-			ITypeHierarchy typeHierarchy = null;
 			List<TypeHierarchyItem> items = new ArrayList<>();
 			IType[] hierarchyTypes = null;
 			if (direction == TypeHierarchyDirection.Supertype) {
-				typeHierarchy = type.newSupertypeHierarchy(DefaultWorkingCopyOwner.PRIMARY, monitor);
-				hierarchyTypes = typeHierarchy.getSupertypes(type);
+				hierarchyTypes = TypeHierarchyCache.instance().getSupertypes(type, monitor);
 			} else {
-				ICompilationUnit[] workingCopies = JavaModelManager.getJavaModelManager().getWorkingCopies(DefaultWorkingCopyOwner.PRIMARY, true);
-				typeHierarchy = type.newTypeHierarchy(workingCopies, monitor);
-				hierarchyTypes = typeHierarchy.getSubtypes(type);
+				hierarchyTypes = TypeHierarchyCache.instance().getSubtypes(type, monitor);
 			}
 			for (IType hierarchyType : hierarchyTypes) {
 				if (monitor.isCanceled()) {
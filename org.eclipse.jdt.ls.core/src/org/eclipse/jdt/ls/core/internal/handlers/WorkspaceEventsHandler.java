@@ -12,16 +12,26 @@
  *******************************************************************************/
 package org.eclipse.jdt.ls.core.internal.handlers;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.LinkedBlockingQueue;
 
+import org.eclipse.core.resources.IContainer;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
-import org.eclipse.core.resources.IWorkspaceRunnable;
-import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.resources.WorkspaceJob;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
-import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.JavaCore;
@@ -61,8 +71,10 @@ public class WorkspaceEventsHandler {
 					while (!pm.isBuildFinished()) {
 						Thread.sleep(200);
 					}
-					FileEvent event = queue.take();
-					handleFileEvent(event);
+					List<FileEvent> events = new ArrayList<>();
+					events.add(queue.take());
+					queue.drainTo(events);
+					handleFileEvents(events);
 				} catch (InterruptedException e) {
 					break;
 				}
@@ -71,7 +83,7 @@ public class WorkspaceEventsHandler {
 		eventThread.start();
 	}
 
-	private CHANGE_TYPE toChangeType(FileChangeType vtype) {
+	private static CHANGE_TYPE toChangeType(FileChangeType vtype) {
 		switch (vtype) {
 			case Created:
 				return CHANGE_TYPE.CREATED;
@@ -96,63 +108,142 @@ public class WorkspaceEventsHandler {
 
 	// for test only
 	public void handleFileEvents(FileEvent... fileEvents) {
+		handleFileEvents(List.of(fileEvents));
+	}
+
+	/**
+	 * Collapses the given events per URI, keeping the order in which the URIs
+	 * were first seen. A creation followed by a deletion cancels out, a deletion
+	 * followed by a creation becomes a change, and a creation followed by a
+	 * change stays a creation.
+	 *
+	 * @param fileEvents
+	 *            the events, in the order they were received
+	 * @return the net change type of each URI
+	 */
+	public static Map<String, CHANGE_TYPE> coalesceFileEvents(Collection<FileEvent> fileEvents) {
+		Map<String, CHANGE_TYPE> changes = new LinkedHashMap<>();
 		for (FileEvent fileEvent : fileEvents) {
-			handleFileEvent(fileEvent);
+			String uri = fileEvent.getUri();
+			if (uri == null) {
+				continue;
+			}
+			CHANGE_TYPE current = toChangeType(fileEvent.getType());
+			CHANGE_TYPE previous = changes.get(uri);
+			if (previous == null) {
+				changes.put(uri, current);
+			} else if (previous == CHANGE_TYPE.CREATED && current == CHANGE_TYPE.DELETED) {
+				changes.remove(uri);
+			} else if (previous == CHANGE_TYPE.DELETED && current != CHANGE_TYPE.DELETED) {
+				changes.put(uri, CHANGE_TYPE.CHANGED);
+			} else if (previous != CHANGE_TYPE.CREATED) {
+				changes.put(uri, current);
+			}
 		}
+		return changes;
 	}
 
-	// for test only
-	public boolean isEmpty() {
-		return queue.isEmpty();
+	private void handleFileEvents(List<FileEvent> fileEvents) {
+		Map<String, CHANGE_TYPE> changes = coalesceFileEvents(fileEvents);
+		if (changes.isEmpty()) {
+			return;
+		}
+		for (Map.Entry<String, CHANGE_TYPE> change : changes.entrySet()) {
+			if (change.getValue() == CHANGE_TYPE.DELETED) {
+				cleanUpDiagnostics(change.getKey());
+				handler.didClose(new DidCloseTextDocumentParams(new TextDocumentIdentifier(change.getKey())));
+				discardWorkingCopies(change.getKey());
+			}
+		}
+		// the job takes no scheduling rule, the refreshes and the build supports
+		// acquire the rules they need, but the resource deltas are only sent once
+		// the whole batch is handled
+		WorkspaceJob job = new WorkspaceJob("Handle file changes") {
+			@Override
+			public IStatus runInWorkspace(IProgressMonitor monitor) {
+				handleChanges(changes, monitor);
+				return Status.OK_STATUS;
+			}
+		};
+		job.setSystem(true);
+		job.schedule();
+		try {
+			job.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
 	}
 
-	private void handleFileEvent(FileEvent fileEvent) {
-		CHANGE_TYPE changeType = toChangeType(fileEvent.getType());
-		if (changeType == CHANGE_TYPE.DELETED) {
-			cleanUpDiagnostics(fileEvent.getUri());
-			handler.didClose(new DidCloseTextDocumentParams(new TextDocumentIdentifier(fileEvent.getUri())));
-			discardWorkingCopies(fileEvent.getUri());
+	/**
+	 * Handles the changes of a batch, grouped by project. The parent folder of
+	 * each changed file is refreshed once, and only the build files, libraries
+	 * and settings files are passed on to the projects manager, once per project.
+	 */
+	private void handleChanges(Map<String, CHANGE_TYPE> changes, IProgressMonitor monitor) {
+		Map<IProject, Map<String, CHANGE_TYPE>> changesByProject = new LinkedHashMap<>();
+		Map<IFile, CHANGE_TYPE> files = new LinkedHashMap<>();
+		for (Map.Entry<String, CHANGE_TYPE> change : changes.entrySet()) {
+			IFile file = JDTUtils.findFile(change.getKey());
+			if (file != null) {
+				files.put(file, change.getValue());
+			}
+			changesByProject.computeIfAbsent(file == null ? null : file.getProject(), project -> new LinkedHashMap<>()).put(change.getKey(), change.getValue());
 		}
-		ICompilationUnit unit = JDTUtils.resolveCompilationUnit(fileEvent.getUri());
-		if (unit != null && changeType == CHANGE_TYPE.CREATED && !unit.exists()) {
-			final ICompilationUnit[] units = new ICompilationUnit[1];
-			units[0] = unit;
+		refresh(files, monitor);
+		for (Map<String, CHANGE_TYPE> projectChanges : changesByProject.values()) {
+			Map<String, CHANGE_TYPE> configurationChanges = new LinkedHashMap<>();
+			for (Map.Entry<String, CHANGE_TYPE> change : projectChanges.entrySet()) {
+				handleCompilationUnit(change.getKey(), change.getValue());
+				if (pm.isConfigurationFile(change.getKey())) {
+					configurationChanges.put(change.getKey(), change.getValue());
+				}
+			}
+			if (!configurationChanges.isEmpty()) {
+				pm.filesChanged(configurationChanges);
+			}
+		}
+	}
+
+	/**
+	 * Refreshes the parent folder of the changed files, from the outermost one,
+	 * and then the whole content of the created or changed folders.
+	 */
+	private void refresh(Map<IFile, CHANGE_TYPE> files, IProgressMonitor monitor) {
+		List<IContainer> containers = files.keySet().stream().map(IFile::getParent).distinct().sorted(Comparator.comparingInt(container -> container.getFullPath().segmentCount())).toList();
+		for (IContainer container : containers) {
 			try {
-				ResourcesPlugin.getWorkspace().run(new IWorkspaceRunnable() {
-					@Override
-					public void run(IProgressMonitor monitor) throws CoreException {
-						units[0] = createCompilationUnit(units[0]);
-					}
-				}, new NullProgressMonitor());
+				container.refreshLocal(IResource.DEPTH_ONE, monitor);
 			} catch (CoreException e) {
 				JavaLanguageServerPlugin.logException(e.getMessage(), e);
 			}
-			unit = units[0];
 		}
-		if (unit != null) {
-			if (unit.isWorkingCopy()) {
+		for (Map.Entry<IFile, CHANGE_TYPE> file : files.entrySet()) {
+			if (file.getValue() != CHANGE_TYPE.DELETED && file.getKey().getParent().findMember(file.getKey().getName()) instanceof IFolder folder) {
 				try {
-					IResource resource = unit.getUnderlyingResource();
-					if (resource != null && resource.exists()) {
-						resource.refreshLocal(IResource.DEPTH_ZERO, new NullProgressMonitor());
-					}
+					folder.refreshLocal(IResource.DEPTH_INFINITE, monitor);
 				} catch (CoreException e) {
 					JavaLanguageServerPlugin.logException(e.getMessage(), e);
 				}
-				return;
 			}
-			if (changeType == CHANGE_TYPE.DELETED || changeType == CHANGE_TYPE.CHANGED) {
-				if (unit.equals(CoreASTProvider.getInstance().getActiveJavaElement())) {
-					CoreASTProvider.getInstance().disposeAST();
-				}
+		}
+	}
+
+	private void handleCompilationUnit(String uri, CHANGE_TYPE changeType) {
+		ICompilationUnit unit = JDTUtils.resolveCompilationUnit(uri);
+		if (unit == null || unit.isWorkingCopy()) {
+			return;
+		}
+		if (changeType == CHANGE_TYPE.CREATED && !unit.exists()) {
+			createCompilationUnit(unit);
+		} else if (changeType == CHANGE_TYPE.DELETED || changeType == CHANGE_TYPE.CHANGED) {
+			if (unit.equals(CoreASTProvider.getInstance().getActiveJavaElement())) {
+				CoreASTProvider.getInstance().disposeAST();
 			}
 		}
-		pm.fileChanged(fileEvent.getUri(), changeType);
 	}
 
-	private ICompilationUnit createCompilationUnit(ICompilationUnit unit) {
+	private void createCompilationUnit(ICompilationUnit unit) {
 		try {
-			unit.getResource().refreshLocal(IResource.DEPTH_ONE, new NullProgressMonitor());
 			if (unit.getResource().exists()) {
 				IJavaElement parent = unit.getParent();
 				if (parent instanceof PackageFragment pkg) {
@@ -165,7 +256,6 @@ public class WorkspaceEventsHandler {
 		} catch (CoreException e) {
 			JavaLanguageServerPlugin.logException(e.getMessage(), e);
 		}
-		return unit;
 	}
 
 	private void cleanUpDiagnostics(String uri) {
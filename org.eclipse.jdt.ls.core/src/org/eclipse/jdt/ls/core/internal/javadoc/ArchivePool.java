@@ -0,0 +1,277 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal.javadoc;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.zip.ZipEntry;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jdt.ls.core.internal.JavaLanguageServerPlugin;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Pool of the Javadoc and source archives the images of the Javadoc are
+ * extracted from.
+ *
+ * The archives are identified by their path, modification time and size, so a
+ * rebuilt archive is opened again. A few of them are kept open, and are closed
+ * once they have not been used for a minute, or when the server stops. The
+ * archives are opened and indexed outside of the lock of the pool, so that a
+ * large archive doesn't hold up the extractions from the others. The names of the resources of each
+ * archive, that is anything else than classes, sources and pages, are
+ * remembered for longer, so that a missing image is answered without opening
+ * the archive. The images already extracted are remembered with the archive
+ * they come from, so that they are not checked again.
+ */
+public final class ArchivePool {
+
+	private static final int MAX_OPEN_ARCHIVES = 8;
+
+	private static final long IDLE_TIMEOUT = TimeUnit.MINUTES.toMillis(1);
+
+	private static final int MAX_INDEXES = 32;
+
+	private final Map<ArchiveKey, Archive> archives = new LinkedHashMap<>(MAX_OPEN_ARCHIVES, 0.75f, true);
+
+	private final Cache<ArchiveKey, Set<String>> indexes = CacheBuilder.newBuilder().maximumSize(MAX_INDEXES).build();
+
+	private final Map<File, Extraction> extracted = new ConcurrentHashMap<>();
+
+	private static class InstanceHolder {
+		public static ArchivePool instance = new ArchivePool();
+	}
+
+	private final Job closer = new Job("Close idle Javadoc archives") {
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			long delay = closeIdle();
+			if (delay > 0) {
+				schedule(delay);
+			}
+			return Status.OK_STATUS;
+		}
+	};
+
+	private ArchivePool() {
+		closer.setSystem(true);
+	}
+
+	public static ArchivePool instance() {
+		return InstanceHolder.instance;
+	}
+
+	/**
+	 * Extracts the entry of the archive to the output file, unless it is already
+	 * up to date.
+	 *
+	 * @param archiveFile
+	 *            the Javadoc or source archive
+	 * @param entryName
+	 *            the name of the entry in the archive
+	 * @param outputFile
+	 *            the file to extract the entry to
+	 * @return <code>true</code> if the output file holds the entry,
+	 *         <code>false</code> if the archive doesn't contain it
+	 */
+	public boolean extract(File archiveFile, String entryName, File outputFile) throws IOException {
+		ArchiveKey key = ArchiveKey.of(archiveFile);
+		if (key == null) {
+			return false;
+		}
+		Extraction extraction = new Extraction(key, entryName);
+		if (extraction.equals(extracted.get(outputFile)) && outputFile.exists()) {
+			return true;
+		}
+		Set<String> index = indexes.getIfPresent(key);
+		if (index != null && isIndexed(entryName) && !index.contains(entryName)) {
+			return false;
+		}
+		Archive archive = acquire(key, archiveFile);
+		try {
+			ZipEntry entry = archive.jar.getEntry(entryName);
+			if (entry == null) {
+				return false;
+			}
+			if (!outputFile.exists() || isOutdated(outputFile, archiveFile)) {
+				try (InputStream is = archive.jar.getInputStream(entry)) {
+					outputFile.getParentFile().mkdirs();
+					Files.copy(is, outputFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+				}
+			}
+			extracted.put(outputFile, extraction);
+			return true;
+		} finally {
+			release(archive);
+		}
+	}
+
+	/**
+	 * Closes the archives of the pool, the ones in use are closed once they are
+	 * released.
+	 */
+	public synchronized void closeAll() {
+		closer.cancel();
+		archives.values().removeIf(ArchivePool::close);
+	}
+
+	private Archive acquire(ArchiveKey key, File archiveFile) throws IOException {
+		synchronized (this) {
+			Archive archive = archives.get(key);
+			if (archive != null) {
+				archive.references++;
+				return archive;
+			}
+		}
+		JarFile jar = new JarFile(archiveFile);
+		Set<String> index = indexes.getIfPresent(key) == null ? index(jar) : null;
+		synchronized (this) {
+			Archive archive = archives.get(key);
+			if (archive != null) {
+				// opened concurrently
+				close(new Archive(jar));
+			} else {
+				archive = new Archive(jar);
+				// an older version of the same archive won't be used anymore
+				archives.entrySet().removeIf(entry -> entry.getKey().path().equals(key.path()) && close(entry.getValue()));
+				archives.put(key, archive);
+				if (index != null) {
+					indexes.put(key, index);
+				}
+				Iterator<Archive> iterator = archives.values().iterator();
+				while (archives.size() > MAX_OPEN_ARCHIVES && iterator.hasNext()) {
+					Archive eldest = iterator.next();
+					iterator.remove();
+					close(eldest);
+				}
+			}
+			archive.references++;
+			return archive;
+		}
+	}
+
+	private synchronized void release(Archive archive) {
+		archive.references--;
+		archive.lastUsed = System.currentTimeMillis();
+		if (!archives.containsValue(archive)) {
+			close(archive);
+		} else {
+			closer.schedule(IDLE_TIMEOUT);
+		}
+	}
+
+	/**
+	 * Closes the archives that haven't been used for the idle timeout, and
+	 * returns the delay after which the remaining ones must be checked, or 0 if
+	 * there are none.
+	 */
+	private synchronized long closeIdle() {
+		long now = System.currentTimeMillis();
+		long delay = 0;
+		Iterator<Archive> iterator = archives.values().iterator();
+		while (iterator.hasNext()) {
+			Archive archive = iterator.next();
+			long idle = now - archive.lastUsed;
+			if (archive.references == 0 && idle >= IDLE_TIMEOUT) {
+				iterator.remove();
+				close(archive);
+			} else {
+				long remaining = archive.references == 0 ? IDLE_TIMEOUT - idle : IDLE_TIMEOUT;
+				delay = delay == 0 ? remaining : Math.min(delay, remaining);
+			}
+		}
+		return delay;
+	}
+
+	/**
+	 * Closes the archive if it isn't in use anymore, it is otherwise closed on
+	 * release.
+	 */
+	private static boolean close(Archive archive) {
+		if (archive.references == 0) {
+			try {
+				archive.jar.close();
+			} catch (IOException e) {
+				JavaLanguageServerPlugin.logException("Failed to close " + archive.jar.getName(), e);
+			}
+		}
+		return true;
+	}
+
+	private static Set<String> index(JarFile jar) {
+		Set<String> names = new HashSet<>();
+		Enumeration<JarEntry> entries = jar.entries();
+		while (entries.hasMoreElements()) {
+			String name = entries.nextElement().getName();
+			if (isIndexed(name)) {
+				names.add(name);
+			}
+		}
+		return names;
+	}
+
+	private static boolean isIndexed(String entryName) {
+		return !entryName.endsWith("/") && !entryName.endsWith(".class") && !entryName.endsWith(".java") && !entryName.endsWith(".html");
+	}
+
+	private static boolean isOutdated(File outputFile, File archiveFile) throws IOException {
+		FileTime outputCreationTime = Files.readAttributes(outputFile.toPath(), BasicFileAttributes.class).creationTime();
+		FileTime archiveCreationTime = Files.readAttributes(archiveFile.toPath(), BasicFileAttributes.class).creationTime();
+		return archiveCreationTime.compareTo(outputCreationTime) > 0;
+	}
+
+	private static class Archive {
+		private final JarFile jar;
+		private int references;
+		private long lastUsed;
+
+		Archive(JarFile jar) {
+			this.jar = jar;
+		}
+	}
+
+	private record Extraction(ArchiveKey archive, String entryName) {
+	}
+
+	private record ArchiveKey(String path, long lastModified, long length) {
+
+		static ArchiveKey of(File file) {
+			long lastModified = file.lastModified();
+			if (lastModified == 0L) {
+				// the file doesn't exist
+				return null;
+			}
+			return new ArchiveKey(file.getAbsolutePath(), lastModified, file.length());
+		}
+	}
+}
@@ -13,20 +13,12 @@
 package org.eclipse.jdt.ls.core.internal.javadoc;
 
 import java.io.File;
-import java.io.IOException;
-import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
-import java.nio.file.Files;
 import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
-import java.nio.file.attribute.BasicFileAttributes;
-import java.nio.file.attribute.FileTime;
-import java.util.jar.JarFile;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.zip.ZipEntry;
 
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.IPath;
@@ -124,85 +116,46 @@ public class JavaDocHTMLPathHandler {
 		srcPath = srcPath.replace('\\', '/');
 
 		String filePathRelativeToJar = fragmentPath + srcPath; // /relative/path/to/file.abc
-		InputStream is = null; // file from jar (ZipEntry)
-		JarFile jar = null;
 
 		try {
-			File currentJarPath = null;
+			String jarRootName = internalJarFragment.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT).getElementName();
+			if (jarRootName.endsWith(".jar")) {
+				jarRootName = jarRootName.substring(0, jarRootName.length() - 4);
+			}
+			jarRootName += "/";
 
-			ZipEntry currentZipEntry = null;
+			IPath newOutputPath = EXTRACTED_JAR_IMAGES_FOLDER.append(jarRootName);
+			newOutputPath = newOutputPath.append(fileName);
+			File outputFile = newOutputPath.toFile();
 
+			boolean extracted = false;
 			URL javadocJarBaseLocationURL = CoreJavaDocLocations.getJavadocBaseLocation(internalJarFragment); //Absolute location of javadoc jar (not class or source jar)
 			//Attempt to get file from javadoc jar
 			if (javadocJarBaseLocationURL != null) {
-				URI javadocJarBaseLocationURI = javadocJarBaseLocationURL.toURI();
-				currentJarPath = getJarPathFromURI(javadocJarBaseLocationURI);
-				if (currentJarPath != null) {
-					jar = new JarFile(currentJarPath);
-					currentZipEntry = jar.getEntry(filePathRelativeToJar);
+				File javadocJarPath = getJarPathFromURI(javadocJarBaseLocationURL.toURI());
+				if (javadocJarPath != null) {
+					extracted = ArchivePool.instance().extract(javadocJarPath, filePathRelativeToJar, outputFile);
 				}
 			}
 
 			//No file was in the javadoc jar, try the source jar
-			if (currentZipEntry == null) {
-				currentJarPath = SourceJarLocations.getSourceJarPath(internalJarFragment); //Absolute location of source jar
-				if (currentJarPath != null) {
-					jar = new JarFile(currentJarPath);
-					currentZipEntry = jar.getEntry(filePathRelativeToJar);
+			if (!extracted) {
+				File sourceJarPath = SourceJarLocations.getSourceJarPath(internalJarFragment); //Absolute location of source jar
+				if (sourceJarPath != null) {
+					extracted = ArchivePool.instance().extract(sourceJarPath, filePathRelativeToJar, outputFile);
 				}
 			}
 
-			if (jar == null || currentZipEntry == null) {
+			if (!extracted) {
 				return text; //File from source path could not be located in either jar
 			}
 
-			String jarRootName = internalJarFragment.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT).getElementName();
-			if (jarRootName.endsWith(".jar")) {
-				jarRootName = jarRootName.substring(0, jarRootName.length() - 4);
-			}
-			jarRootName += "/";
-
-			IPath newOutputPath = EXTRACTED_JAR_IMAGES_FOLDER.append(jarRootName);
-			newOutputPath = newOutputPath.append(fileName);
-			File outputFile = newOutputPath.toFile();
-
-			//Check if the file actually needs to be extracted
-			if (!outputFile.exists()) {
-				is = jar.getInputStream(currentZipEntry);
-				extractFileTo(is, outputFile);
-			} else {//Check if the file is outdated
-				BasicFileAttributes existingOutputFileAttributes = Files.readAttributes(outputFile.toPath(), BasicFileAttributes.class);
-				FileTime existingFileCreationTime = existingOutputFileAttributes.creationTime();
-				BasicFileAttributes jarOutputFileAttributes = Files.readAttributes(currentJarPath.toPath(), BasicFileAttributes.class);
-
-				FileTime jarFileCreationTime = jarOutputFileAttributes.creationTime();
-
-				if (jarFileCreationTime.compareTo(existingFileCreationTime) > 0) {
-					is = jar.getInputStream(currentZipEntry);
-					extractFileTo(is, outputFile);
-				}
-			}
-
 			//Insert new path into text
 			return text.substring(0, offsets[0]) + ResourceUtils.fixURI(outputFile.toURI()).toString() + text.substring(offsets[1]);
 
 		} catch (Exception e) {
 			JavaLanguageServerPlugin.logException("Failed to extract path from embedded jar with error message:", e);
 			return text;
-		} finally {
-			//cleanup
-			if (is != null) {
-				try {
-					is.close();
-				} catch (IOException e) {
-				}
-			}
-			if (jar != null) {
-				try {
-					jar.close();
-				} catch (IOException e) {
-				}
-			}
 		}
 	}
 
@@ -291,22 +244,4 @@ public class JavaDocHTMLPathHandler {
 			return false;
 		}
 	}
-
-	/**
-	 * Given an inputstream, outputs a file to the given path
-	 *
-	 * @param fileToExtract
-	 * @param pathToExtractTo
-	 * @return
-	 */
-	private static boolean extractFileTo(InputStream fileToExtract, File pathToExtractTo) {
-		try {
-			pathToExtractTo.getParentFile().mkdirs();
-			Files.copy(fileToExtract, pathToExtractTo.toPath(), StandardCopyOption.REPLACE_EXISTING);
-			return true;
-		} catch (IOException e) {
-			JavaLanguageServerPlugin.logException("Failed to extract file with error message: ", e);
-		}
-		return false;
-	}
 }
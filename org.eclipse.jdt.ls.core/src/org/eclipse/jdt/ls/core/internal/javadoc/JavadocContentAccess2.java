@@ -15,6 +15,7 @@ package org.eclipse.jdt.ls.core.internal.javadoc;
 
 import java.io.IOException;
 import java.io.Reader;
+import java.io.StringReader;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
@@ -71,10 +72,12 @@ public class JavadocContentAccess2 {
 	public static Reader getMarkdownContentReader(IJavaElement element) {
 
 		try {
-			CoreJavadocAccess access = createJdtLsJavadocAccess();
-			String rawHtml = access.getHTMLContent(element, true);
-			Reader markdownReader = new JavaDoc2MarkdownConverter(rawHtml).getAsReader();
-			return markdownReader;
+			// plain Javadoc is rendered directly, the rest goes through HTML
+			String markdown = JavadocMarkdownRenderer.render(element);
+			if (markdown == null) {
+				markdown = getHTMLMarkdownContent(element);
+			}
+			return markdown == null ? null : new StringReader(markdown);
 		} catch (IOException | CoreException e) {
 
 		}
@@ -82,6 +85,16 @@ public class JavadocContentAccess2 {
 		return null;
 	}
 
+	/**
+	 * Returns the Markdown content of the Javadoc of the element, converted from
+	 * its HTML content.
+	 */
+	public static String getHTMLMarkdownContent(IJavaElement element) throws CoreException, IOException {
+		CoreJavadocAccess access = createJdtLsJavadocAccess();
+		String rawHtml = access.getHTMLContent(element, true);
+		return new JavaDoc2MarkdownConverter(rawHtml).getAsString();
+	}
+
 	/**
 	 * @return
 	 */
@@ -121,6 +134,27 @@ public class JavadocContentAccess2 {
 		};
 	}
 
+	/**
+	 * Returns the location of the element referenced from the Javadoc of the
+	 * given element, as an URI followed by the line number, or an empty string
+	 * if the reference can't be resolved.
+	 */
+	static String createLinkURI(String scheme, IJavaElement element, String refTypeName, String refMemberName, String[] refParameterTypes) throws URISyntaxException {
+		URI javadocURI = CoreJavaElementLinks.createURIAsUri(scheme, element, refTypeName, refMemberName, refParameterTypes);
+		IJavaElement linkTarget = CoreJavaElementLinks.parseURI(javadocURI);
+		if (linkTarget == null) {
+			return "";
+		}
+		try {
+			Location locationToElement = JDTUtils.toLocation(linkTarget);
+			if (locationToElement != null) {
+				return locationToElement.getUri() + "#" + (locationToElement.getRange().getStart().getLine() + 1);
+			}
+		} catch (JavaModelException e) {
+		}
+		return "";
+	}
+
 	public static final IJavadocContentFactory JDT_LS_JAVADOC_CONTENT_FACTORY = new IJavadocContentFactory() {
 		@Override
 		public IJavadocAccess createJavadocAccess(IJavaElement element, Javadoc javadoc, String source, JavadocLookup lookup) {
@@ -323,19 +357,7 @@ public class JavadocContentAccess2 {
 
 		@Override
 		protected String createLinkURI(String scheme, IJavaElement element, String refTypeName, String refMemberName, String[] refParameterTypes) throws URISyntaxException {
-			URI javadocURI = CoreJavaElementLinks.createURIAsUri(scheme, fElement, refTypeName, refMemberName, refParameterTypes);
-			IJavaElement linkTarget = CoreJavaElementLinks.parseURI(javadocURI);
-			if (linkTarget == null) {
-			        return "";
-			}
-			try {
-			        Location locationToElement = JDTUtils.toLocation(linkTarget);
-			        if (locationToElement != null) {
-			                return locationToElement.getUri() + "#" + (locationToElement.getRange().getStart().getLine() + 1);
-			        }
-			} catch (JavaModelException e) {
-			}
-			return "";
+			return JavadocContentAccess2.createLinkURI(scheme, fElement, refTypeName, refMemberName, refParameterTypes);
 		}
 
 		@Override
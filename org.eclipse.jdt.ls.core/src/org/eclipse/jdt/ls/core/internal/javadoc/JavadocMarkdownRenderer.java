@@ -0,0 +1,542 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal.javadoc;
+
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.jdt.core.IBuffer;
+import org.eclipse.jdt.core.IField;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IMember;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.ISourceRange;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.ITypeParameter;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.Signature;
+import org.eclipse.jdt.core.SourceRange;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.Javadoc;
+import org.eclipse.jdt.core.dom.MemberRef;
+import org.eclipse.jdt.core.dom.MethodRef;
+import org.eclipse.jdt.core.dom.MethodRefParameter;
+import org.eclipse.jdt.core.dom.Name;
+import org.eclipse.jdt.core.dom.QualifiedName;
+import org.eclipse.jdt.core.dom.SimpleName;
+import org.eclipse.jdt.core.dom.TagElement;
+import org.eclipse.jdt.core.dom.TextElement;
+import org.eclipse.jdt.core.manipulation.internal.javadoc.CoreJavadocContentAccessUtility;
+import org.eclipse.jdt.internal.ui.viewsupport.CoreJavaElementLinks;
+
+/**
+ * Renders the Javadoc of a member to Markdown by walking its DOM, without
+ * going through HTML.
+ *
+ * The description and the block tags are laid out like the HTML conversion
+ * does, the Markdown characters of the text are escaped, and the links point
+ * to the same targets. <code>null</code> is returned, and the HTML conversion
+ * must be used, for the comments embedding HTML, for the inline tags that
+ * evaluate code or other documentation (<code>&#64;value</code>,
+ * <code>&#64;snippet</code>, <code>&#64;inheritDoc</code>...) and for the
+ * methods that would inherit part of their documentation from the super
+ * types, because their description, a parameter, the return value or a
+ * declared exception is not documented.
+ */
+public final class JavadocMarkdownRenderer {
+
+	private static final Pattern WHITESPACES = Pattern.compile("\\s+");
+
+	private static final Pattern MARKDOWN_CHARACTERS = Pattern.compile("[\\\\`*_\\[\\]<>]");
+
+	private static final Pattern ENTITY = Pattern.compile("&(#[0-9]+|#[xX][0-9a-fA-F]+|[A-Za-z]+);");
+
+	/**
+	 * Text that would start a list, a heading or a quote at the beginning of a
+	 * paragraph.
+	 */
+	private static final Pattern BLOCK_START = Pattern.compile("^(\\d+)([.)])|^[-+#]");
+
+	private static final Map<String, String> ENTITIES = Map.of("lt", "<", "gt", ">", "amp", "&", "quot", "\"", "apos", "'", "nbsp", " ");
+
+	private final IMember member;
+	private final String rawJavadoc;
+	private final int offset;
+
+	private JavadocMarkdownRenderer(IMember member, String rawJavadoc, int offset) {
+		this.member = member;
+		this.rawJavadoc = rawJavadoc;
+		this.offset = offset;
+	}
+
+	/**
+	 * Returns the Markdown content of the Javadoc of the element, or
+	 * <code>null</code> if it must be rendered from HTML.
+	 */
+	public static String render(IJavaElement element) throws JavaModelException {
+		if (!(element instanceof IType || element instanceof IField || element instanceof IMethod)) {
+			return null;
+		}
+		IMember member = (IMember) element;
+		ISourceRange range = member.getJavadocRange();
+		if (!SourceRange.isAvailable(range)) {
+			return null;
+		}
+		IBuffer buffer = member.getOpenable().getBuffer();
+		if (buffer == null || buffer.getLength() < range.getOffset() + range.getLength()) {
+			return null;
+		}
+		String rawJavadoc = buffer.getText(range.getOffset(), range.getLength());
+		if (!rawJavadoc.startsWith("/**")) { //$NON-NLS-1$
+			return null;
+		}
+		Javadoc javadoc = CoreJavadocContentAccessUtility.getJavadocNode(member, rawJavadoc);
+		if (javadoc == null || javadoc.tags().isEmpty()) {
+			return null;
+		}
+		return new JavadocMarkdownRenderer(member, rawJavadoc, javadoc.getStartPosition()).renderTags(javadoc.tags());
+	}
+
+	private String renderTags(List<?> tags) throws JavaModelException {
+		TagElement description = null;
+		TagElement deprecated = null;
+		TagElement returns = null;
+		Map<String, TagElement> parameters = new LinkedHashMap<>();
+		Map<String, TagElement> typeParameters = new LinkedHashMap<>();
+		List<TagElement> exceptions = new ArrayList<>();
+		Map<String, List<TagElement>> blockTags = new LinkedHashMap<>();
+		blockTags.put(TagElement.TAG_SINCE, new ArrayList<>());
+		blockTags.put(TagElement.TAG_VERSION, new ArrayList<>());
+		blockTags.put(TagElement.TAG_AUTHOR, new ArrayList<>());
+		blockTags.put(TagElement.TAG_SEE, new ArrayList<>());
+		blockTags.put(TagElement.TAG_API_NOTE, new ArrayList<>());
+		blockTags.put(TagElement.TAG_IMPL_SPEC, new ArrayList<>());
+		blockTags.put(TagElement.TAG_IMPL_NOTE, new ArrayList<>());
+		for (Object object : tags) {
+			TagElement tag = (TagElement) object;
+			String tagName = tag.getTagName();
+			List<?> fragments = tag.fragments();
+			if (tagName == null) {
+				if (description != null) {
+					return null;
+				}
+				description = tag;
+			} else if (TagElement.TAG_DEPRECATED.equals(tagName) && deprecated == null) {
+				deprecated = tag;
+			} else if (TagElement.TAG_RETURN.equals(tagName) && returns == null) {
+				returns = tag;
+			} else if (TagElement.TAG_THROWS.equals(tagName) || TagElement.TAG_EXCEPTION.equals(tagName)) {
+				if (fragments.isEmpty() || !(fragments.get(0) instanceof Name)) {
+					return null;
+				}
+				exceptions.add(tag);
+			} else if (TagElement.TAG_PARAM.equals(tagName)) {
+				if (isTypeParameterTag(tag)) {
+					typeParameters.putIfAbsent(((SimpleName) fragments.get(1)).getIdentifier(), tag);
+				} else if (!fragments.isEmpty() && fragments.get(0) instanceof SimpleName name) {
+					parameters.putIfAbsent(name.getIdentifier(), tag);
+				} else {
+					return null;
+				}
+			} else if (blockTags.containsKey(tagName)) {
+				blockTags.get(tagName).add(tag);
+			} else {
+				// the other tags are laid out by the HTML conversion
+				return null;
+			}
+		}
+
+		String[] parameterNames = new String[0];
+		String[] typeParameterNames = getTypeParameterNames(member);
+		if (member instanceof IMethod method) {
+			parameterNames = method.getParameterNames();
+			if (CoreJavadocContentAccessUtility.canInheritJavadoc(method) && !isComplete(method, description, returns, parameters, typeParameters, exceptions)) {
+				// the missing parts are inherited from the super types
+				return null;
+			}
+		}
+
+		List<String> paragraphs = new ArrayList<>();
+		if (deprecated != null) {
+			String text = render(deprecated.fragments());
+			if (text == null) {
+				return null;
+			}
+			paragraphs.add(text.isEmpty() ? "**Deprecated.**" : "**Deprecated.** *" + text + "*"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+		if (description != null) {
+			String text = render(description.fragments());
+			if (text == null) {
+				return null;
+			}
+			if (!text.isEmpty()) {
+				paragraphs.add(escapeBlockStart(text));
+			}
+		}
+
+		List<String> sections = new ArrayList<>();
+		if (!appendParameters(sections, "Type Parameters:", typeParameterNames, typeParameters, 3, "<", ">") //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				|| !appendParameters(sections, "Parameters:", parameterNames, parameters, 1, "", "")) { //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			return null;
+		}
+		if (returns != null && !appendBlockTags(sections, "Returns:", List.of(returns))) { //$NON-NLS-1$
+			return null;
+		}
+		if (!exceptions.isEmpty()) {
+			List<String> entries = new ArrayList<>();
+			for (TagElement exception : exceptions) {
+				List<?> fragments = exception.fragments();
+				String name = renderLink(fragments.subList(0, 1));
+				String text = render(fragments.subList(1, fragments.size()));
+				if (name == null || text == null) {
+					return null;
+				}
+				entries.add(text.isEmpty() ? name : name + " " + text); //$NON-NLS-1$
+			}
+			sections.add(renderBlockTag("Throws:", entries)); //$NON-NLS-1$
+		}
+		if (!appendBlockTags(sections, "Since:", blockTags.get(TagElement.TAG_SINCE)) //$NON-NLS-1$
+				|| !appendBlockTags(sections, "Version:", blockTags.get(TagElement.TAG_VERSION)) //$NON-NLS-1$
+				|| !appendBlockTags(sections, "Author:", blockTags.get(TagElement.TAG_AUTHOR)) //$NON-NLS-1$
+				|| !appendBlockTags(sections, "See Also:", blockTags.get(TagElement.TAG_SEE)) //$NON-NLS-1$
+				|| !appendBlockTags(sections, "API Note:", blockTags.get(TagElement.TAG_API_NOTE)) //$NON-NLS-1$
+				|| !appendBlockTags(sections, "Implementation Requirements:", blockTags.get(TagElement.TAG_IMPL_SPEC)) //$NON-NLS-1$
+				|| !appendBlockTags(sections, "Implementation Note:", blockTags.get(TagElement.TAG_IMPL_NOTE))) { //$NON-NLS-1$
+			return null;
+		}
+		if (!sections.isEmpty()) {
+			paragraphs.add(String.join("\n", sections)); //$NON-NLS-1$
+		}
+		return paragraphs.isEmpty() ? null : String.join("\n\n", paragraphs); //$NON-NLS-1$
+	}
+
+	/**
+	 * Returns whether the Javadoc of a method that can inherit documentation
+	 * has all its parts, so that nothing is looked up in the super types.
+	 */
+	private static boolean isComplete(IMethod method, TagElement description, TagElement returns, Map<String, TagElement> parameters, Map<String, TagElement> typeParameters, List<TagElement> exceptions) throws JavaModelException {
+		if (description == null || description.fragments().isEmpty()) {
+			return false;
+		}
+		if (!parameters.keySet().containsAll(Arrays.asList(method.getParameterNames()))) {
+			return false;
+		}
+		for (ITypeParameter typeParameter : method.getTypeParameters()) {
+			if (!typeParameters.containsKey(typeParameter.getElementName())) {
+				return false;
+			}
+		}
+		if (returns == null && !method.isConstructor() && !Signature.SIG_VOID.equals(method.getReturnType())) {
+			return false;
+		}
+		for (String exceptionType : method.getExceptionTypes()) {
+			String exceptionName = Signature.getSimpleName(Signature.toString(exceptionType));
+			if (exceptions.stream().noneMatch(tag -> exceptionName.equals(getSimpleName((Name) tag.fragments().get(0))))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static String[] getTypeParameterNames(IMember member) throws JavaModelException {
+		ITypeParameter[] typeParameters;
+		if (member instanceof IMethod method) {
+			typeParameters = method.getTypeParameters();
+		} else if (member instanceof IType type) {
+			typeParameters = type.getTypeParameters();
+		} else {
+			return new String[0];
+		}
+		return Arrays.stream(typeParameters).map(ITypeParameter::getElementName).toArray(String[]::new);
+	}
+
+	private static String getSimpleName(Name name) {
+		return name.isSimpleName() ? ((SimpleName) name).getIdentifier() : ((QualifiedName) name).getName().getIdentifier();
+	}
+
+	/**
+	 * Returns whether the tag documents a type parameter, as in
+	 * <code>&#64;param &lt;T&gt;</code>.
+	 */
+	private static boolean isTypeParameterTag(TagElement tag) {
+		List<?> fragments = tag.fragments();
+		return fragments.size() >= 3 && fragments.get(0) instanceof TextElement start && "<".equals(start.getText()) //$NON-NLS-1$
+				&& fragments.get(1) instanceof SimpleName && fragments.get(2) instanceof TextElement end && ">".equals(end.getText()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Appends the section of the parameter tags, in the order of the signature
+	 * followed by the tags of unknown parameters, or returns <code>false</code>
+	 * if one of them can't be rendered.
+	 */
+	private boolean appendParameters(List<String> sections, String title, String[] names, Map<String, TagElement> tags, int nameFragments, String prefix, String suffix) {
+		if (tags.isEmpty()) {
+			return true;
+		}
+		Map<String, TagElement> remaining = new LinkedHashMap<>(tags);
+		List<String> entries = new ArrayList<>();
+		for (String name : names) {
+			TagElement tag = remaining.remove(name);
+			if (tag != null && !addParameter(entries, name, tag, nameFragments, prefix, suffix)) {
+				return false;
+			}
+		}
+		for (Map.Entry<String, TagElement> entry : remaining.entrySet()) {
+			if (!addParameter(entries, entry.getKey(), entry.getValue(), nameFragments, prefix, suffix)) {
+				return false;
+			}
+		}
+		sections.add(renderBlockTag(title, entries));
+		return true;
+	}
+
+	private boolean addParameter(List<String> entries, String name, TagElement tag, int nameFragments, String prefix, String suffix) {
+		List<?> fragments = tag.fragments();
+		String text = render(fragments.subList(nameFragments, fragments.size()));
+		if (text == null) {
+			return false;
+		}
+		String entry = "**" + prefix + name + suffix + "**"; //$NON-NLS-1$ //$NON-NLS-2$
+		entries.add(text.isEmpty() ? entry : entry + " " + text); //$NON-NLS-1$
+		return true;
+	}
+
+	/**
+	 * Appends the section of the given tags, one entry per tag, or returns
+	 * <code>false</code> if one of them can't be rendered.
+	 */
+	private boolean appendBlockTags(List<String> sections, String title, List<TagElement> tags) {
+		if (tags.isEmpty()) {
+			return true;
+		}
+		List<String> entries = new ArrayList<>();
+		for (TagElement tag : tags) {
+			List<?> fragments = tag.fragments();
+			String text;
+			if (TagElement.TAG_SEE.equals(tag.getTagName()) && !fragments.isEmpty() && !(fragments.get(0) instanceof TextElement)) {
+				text = renderLink(fragments);
+			} else {
+				text = render(fragments);
+			}
+			if (text == null) {
+				return false;
+			}
+			entries.add(escapeBlockStart(text));
+		}
+		sections.add(renderBlockTag(title, entries));
+		return true;
+	}
+
+	/**
+	 * Renders a block tag as the nested lists of the HTML conversion.
+	 */
+	private static String renderBlockTag(String title, List<String> entries) {
+		StringBuilder buf = new StringBuilder();
+		buf.append(" *  **").append(title).append("**\n    "); //$NON-NLS-1$ //$NON-NLS-2$
+		for (String entry : entries) {
+			buf.append("\n     *  ").append(entry); //$NON-NLS-1$
+		}
+		return buf.toString();
+	}
+
+	/**
+	 * Returns the Markdown of the fragments with their whitespaces collapsed,
+	 * or <code>null</code> if they can't be rendered directly.
+	 */
+	private String render(List<?> fragments) {
+		StringBuilder buf = new StringBuilder();
+		ASTNode previous = null;
+		for (Object fragment : fragments) {
+			ASTNode node = (ASTNode) fragment;
+			if (previous != null && rawJavadoc.substring(previous.getStartPosition() + previous.getLength() - offset, node.getStartPosition() - offset).indexOf('\n') >= 0) {
+				buf.append(' ');
+			}
+			String text;
+			if (node instanceof TextElement textElement) {
+				text = renderText(textElement.getText());
+			} else if (node instanceof TagElement tag) {
+				text = renderInlineTag(tag);
+			} else {
+				return null;
+			}
+			if (text == null) {
+				return null;
+			}
+			buf.append(text);
+			previous = node;
+		}
+		return WHITESPACES.matcher(buf).replaceAll(" ").trim(); //$NON-NLS-1$
+	}
+
+	private String renderInlineTag(TagElement tag) {
+		String tagName = tag.getTagName();
+		if (TagElement.TAG_CODE.equals(tagName)) {
+			String code = getText(tag);
+			return code == null ? null : renderCode(code);
+		} else if (TagElement.TAG_LITERAL.equals(tagName)) {
+			String literal = getText(tag);
+			return literal == null ? null : escape(literal);
+		} else if (TagElement.TAG_LINK.equals(tagName) || TagElement.TAG_LINKPLAIN.equals(tagName)) {
+			return renderLink(tag.fragments());
+		} else if (TagElement.TAG_SUMMARY.equals(tagName)) {
+			return render(tag.fragments());
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the text of an inline tag made of text only, as written.
+	 */
+	private static String getText(TagElement tag) {
+		StringBuilder buf = new StringBuilder();
+		for (Object fragment : tag.fragments()) {
+			if (!(fragment instanceof TextElement text)) {
+				return null;
+			}
+			buf.append(text.getText()).append(' ');
+		}
+		return buf.toString();
+	}
+
+	/**
+	 * Renders a reference and its optional label as the HTML conversion does,
+	 * with the label linked to the location of the referenced element, or
+	 * alone if the reference can't be resolved.
+	 */
+	private String renderLink(List<?> fragments) {
+		if (fragments.isEmpty()) {
+			return null;
+		}
+		Object reference = fragments.get(0);
+		String refTypeName;
+		String refMemberName = null;
+		String[] refParameterTypes = null;
+		String label;
+		if (reference instanceof Name name) {
+			refTypeName = name.getFullyQualifiedName();
+			label = refTypeName;
+		} else if (reference instanceof MemberRef memberRef) {
+			refTypeName = memberRef.getQualifier() == null ? "" : memberRef.getQualifier().getFullyQualifiedName(); //$NON-NLS-1$
+			refMemberName = memberRef.getName().getIdentifier();
+			label = refTypeName.isEmpty() ? refMemberName : refTypeName + "." + refMemberName; //$NON-NLS-1$
+		} else if (reference instanceof MethodRef methodRef) {
+			refTypeName = methodRef.getQualifier() == null ? "" : methodRef.getQualifier().getFullyQualifiedName(); //$NON-NLS-1$
+			refMemberName = methodRef.getName().getIdentifier();
+			List<?> parameters = methodRef.parameters();
+			refParameterTypes = new String[parameters.size()];
+			for (int i = 0; i < refParameterTypes.length; i++) {
+				MethodRefParameter parameter = (MethodRefParameter) parameters.get(i);
+				refParameterTypes[i] = parameter.getType().toString() + (parameter.isVarargs() ? "..." : ""); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+			label = (refTypeName.isEmpty() ? "" : refTypeName + ".") + refMemberName + "(" + String.join(", ", refParameterTypes) + ")"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+		} else {
+			return null;
+		}
+		if (fragments.size() > 1) {
+			label = render(fragments.subList(1, fragments.size()));
+			if (label == null) {
+				return null;
+			}
+		} else {
+			label = escape(label);
+		}
+		String target;
+		try {
+			target = JavadocContentAccess2.createLinkURI(CoreJavaElementLinks.JAVADOC_SCHEME, member, refTypeName, refMemberName, refParameterTypes);
+		} catch (URISyntaxException e) {
+			target = ""; //$NON-NLS-1$
+		}
+		return target.isEmpty() ? label : "[" + label + "](" + target + ")"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+
+	/**
+	 * Renders the Javadoc text, which is HTML, or returns <code>null</code> if
+	 * it contains HTML markup.
+	 */
+	private static String renderText(String text) {
+		if (text.indexOf('<') >= 0) {
+			return null;
+		}
+		StringBuilder buf = new StringBuilder();
+		Matcher matcher = ENTITY.matcher(text);
+		int last = 0;
+		while (matcher.find()) {
+			String decoded = decode(matcher.group(1));
+			if (decoded == null) {
+				return null;
+			}
+			buf.append(text, last, matcher.start()).append(decoded);
+			last = matcher.end();
+		}
+		buf.append(text, last, text.length());
+		return escape(buf.toString());
+	}
+
+	private static String decode(String entity) {
+		if (entity.charAt(0) != '#') {
+			return ENTITIES.get(entity);
+		}
+		try {
+			boolean hex = entity.length() > 1 && (entity.charAt(1) == 'x' || entity.charAt(1) == 'X');
+			return Character.toString(Integer.parseInt(entity.substring(hex ? 2 : 1), hex ? 16 : 10));
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Escapes the characters of the text that are Markdown syntax.
+	 */
+	private static String escape(String text) {
+		String escaped = MARKDOWN_CHARACTERS.matcher(text).replaceAll("\\\\$0"); //$NON-NLS-1$
+		return ENTITY.matcher(escaped).replaceAll("\\\\$0"); //$NON-NLS-1$
+	}
+
+	/**
+	 * Escapes the start of a paragraph that would be read as a list, a heading
+	 * or a quote.
+	 */
+	private static String escapeBlockStart(String text) {
+		Matcher matcher = BLOCK_START.matcher(text);
+		if (!matcher.find()) {
+			return text;
+		}
+		if (matcher.group(1) != null) {
+			return matcher.group(1) + "\\" + text.substring(matcher.group(1).length()); //$NON-NLS-1$
+		}
+		return "\\" + text; //$NON-NLS-1$
+	}
+
+	/**
+	 * Renders the code as a code span, delimited by more backticks than it
+	 * contains in a row.
+	 */
+	private static String renderCode(String code) {
+		String text = WHITESPACES.matcher(code).replaceAll(" ").trim(); //$NON-NLS-1$
+		if (text.isEmpty()) {
+			return text;
+		}
+		String fence = "`"; //$NON-NLS-1$
+		while (text.contains(fence)) {
+			fence += "`"; //$NON-NLS-1$
+		}
+		String padding = text.startsWith("`") || text.endsWith("`") ? " " : ""; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		return fence + padding + text + padding + fence;
+	}
+}
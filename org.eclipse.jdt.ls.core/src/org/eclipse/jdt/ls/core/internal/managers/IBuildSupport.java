@@ -15,13 +15,16 @@ package org.eclipse.jdt.ls.core.internal.managers;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.debug.core.ILaunchConfiguration;
 import org.eclipse.jdt.core.IClassFile;
 import org.eclipse.jdt.core.IJavaProject;
@@ -65,6 +68,36 @@ public interface IBuildSupport {
 		//do nothing
 	}
 
+	/**
+	 * Updates several projects of this build support at once. Implementors can
+	 * override it to share the work that is common to the projects, such as the
+	 * resolution of their dependencies. The default implementation updates the
+	 * projects one by one.
+	 *
+	 * @param projects
+	 *            - the projects to update
+	 * @param force
+	 *            - defines if the <code>projects</code> must be updated despite of
+	 *            no changes in their build descriptors are made
+	 * @param monitor
+	 * @return the projects that could not be updated, with the reason of the
+	 *         failure, so that the other projects can complete their update
+	 */
+	default Map<IProject, CoreException> update(Collection<IProject> projects, boolean force, IProgressMonitor monitor) {
+		Map<IProject, CoreException> failures = new HashMap<>();
+		for (IProject project : projects) {
+			if (monitor.isCanceled()) {
+				throw new OperationCanceledException();
+			}
+			try {
+				update(project, force, monitor);
+			} catch (CoreException e) {
+				failures.put(project, e);
+			}
+		}
+		return failures;
+	}
+
 	/**
 	 * Is equal to a non-forced update: {@code update(resource, false, monitor)}
 	 */
@@ -109,6 +142,10 @@ public interface IBuildSupport {
 					update(project, true, monitor);
 				}
 			}
+			if (!resource.exists()) {
+				// the deletion has already been picked up by a refresh of the parent
+				return;
+			}
 			resource = resource.getParent();
 		}
 		if (resource != null) {
@@ -15,9 +15,12 @@ package org.eclipse.jdt.ls.core.internal.managers;
 import java.nio.file.Path;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
@@ -72,23 +75,51 @@ public class MavenBuildSupport implements IBuildSupport {
 
 	@Override
 	public void update(IProject project, boolean force, IProgressMonitor monitor) throws CoreException {
-		if (!applies(project)) {
-			return;
+		CoreException failure = update(Collections.singleton(project), force, monitor).get(project);
+		if (failure != null) {
+			throw failure;
+		}
+	}
+
+	/**
+	 * Updates all the changed projects with a single Maven update request, so that
+	 * the reactor is resolved and configured once rather than once per project.
+	 * A failure of the request is reported for all its projects.
+	 */
+	@Override
+	public Map<IProject, CoreException> update(Collection<IProject> projects, boolean force, IProgressMonitor monitor) {
+		Set<IProject> projectSet = new LinkedHashSet<>();
+		for (IProject project : projects) {
+			if (!applies(project)) {
+				continue;
+			}
+			Path pomPath = project.getFile("pom.xml").getLocation().toFile().toPath();
+			if ((digestStore.updateDigest(pomPath) || force) && !projectSet.contains(project)) {
+				if (shouldCollectProjects()) {
+					collectProjects(projectSet, project, monitor);
+				} else {
+					projectSet.add(project);
+				}
+			}
+		}
+		if (projectSet.isEmpty()) {
+			return Collections.emptyMap();
 		}
-		Path pomPath = project.getFile("pom.xml").getLocation().toFile().toPath();
-		if (digestStore.updateDigest(pomPath) || force) {
-			JavaLanguageServerPlugin.debugTrace("Starting Maven update for " + project.getName());
-			boolean updateSnapshots = JavaLanguageServerPlugin.getPreferencesManager() == null ? false : JavaLanguageServerPlugin.getPreferencesManager().getPreferences().isMavenUpdateSnapshots();
+		JavaLanguageServerPlugin.debugTrace("Starting Maven update for " + projectSet.stream().map(IProject::getName).collect(Collectors.joining(", ")));
+		boolean updateSnapshots = JavaLanguageServerPlugin.getPreferencesManager() == null ? false : JavaLanguageServerPlugin.getPreferencesManager().getPreferences().isMavenUpdateSnapshots();
+		MavenUpdateRequest request = new MavenUpdateRequest(projectSet, MavenPlugin.getMavenConfiguration().isOffline(), updateSnapshots);
+		try {
 			if (shouldCollectProjects()) {
-				Set<IProject> projectSet = new LinkedHashSet<>();
-				collectProjects(projectSet, project, monitor);
-				MavenUpdateRequest request = new MavenUpdateRequest(projectSet, MavenPlugin.getMavenConfiguration().isOffline(), updateSnapshots);
 				((ProjectConfigurationManager) configurationManager).updateProjectConfiguration(request, true, true, monitor);
 			} else {
-				MavenUpdateRequest request = new MavenUpdateRequest(project, MavenPlugin.getMavenConfiguration().isOffline(), updateSnapshots);
 				configurationManager.updateProjectConfiguration(request, monitor);
 			}
+		} catch (CoreException e) {
+			Map<IProject, CoreException> failures = new HashMap<>();
+			projectSet.forEach(project -> failures.put(project, e));
+			return failures;
 		}
+		return Collections.emptyMap();
 	}
 
 	public void collectProjects(Collection<IProject> projects, IProject project, IProgressMonitor monitor) {
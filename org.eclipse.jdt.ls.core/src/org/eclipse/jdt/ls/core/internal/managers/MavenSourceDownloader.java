@@ -14,6 +14,8 @@ package org.eclipse.jdt.ls.core.internal.managers;
 
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.core.resources.IFile;
@@ -21,11 +23,14 @@ import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.jdt.core.IClassFile;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.ls.core.internal.DependencyUtil;
-import org.eclipse.jdt.ls.core.internal.JobHelpers;
+import org.eclipse.jdt.ls.core.internal.JavaLanguageServerPlugin;
 import org.eclipse.jdt.ls.core.internal.ProjectUtils;
 import org.eclipse.m2e.core.embedder.ArtifactKey;
 import org.eclipse.m2e.jdt.IClasspathManager;
@@ -39,13 +44,18 @@ import com.google.common.cache.CacheBuilder;
  * {@link ISourceDownloader} implementation based on m2e's
  * {@link IClasspathManager}' source download facilities.
  *
+ * The jars are identified and their sources requested by a background job, so
+ * that the requests asking for sources never wait for the network. The
+ * identifications are remembered across sessions by a
+ * {@link SourceDiscoveryStore}, that is saved once the queued jars are
+ * identified.
+ *
  * @author Fred Bricon
  *
  */
 public class MavenSourceDownloader implements ISourceDownloader {
 
 	private static Cache<String, Boolean> downloadRequestsCache = CacheBuilder.newBuilder().maximumSize(100).expireAfterWrite(1, TimeUnit.HOURS).build();
-	private static final int MAX_TIME_MILLIS = 3000;
 	private static Cache<IPackageFragmentRoot, Integer> downloadStateCache = CacheBuilder.newBuilder().maximumSize(100).build();
 
 	@Override
@@ -73,42 +83,9 @@ public class MavenSourceDownloader implements ISourceDownloader {
 					Boolean downloaded = downloadRequestsCache.getIfPresent(path.toString());
 					if (downloaded == null) {
 						downloadRequestsCache.put(path.toString(), true);
-						ArtifactKey artifact = new MavenPropertiesIdentifier().identify(path, monitor);
-						if (artifact == null) {
-							artifact = new MavenCentralIdentifier().identify(path, monitor);
-						}
-						if (artifact != null) {
-							downloadStateCache.put(fragment, DOWNLOAD_REQUESTED);
-							if (!ProjectUtils.isMavenProject(element.getJavaProject().getProject())) {
-								// see https://github.com/eclipse-m2e/m2e-core/commit/b547ecc358c990e182a5eaf8d36f121e43f4a8c9#diff-3967743078be6a24ba1e3ec28bfc22bdf2c88a740695411f6d20e2444fef042fR943
-								long lastModified;
-								try {
-									File artifactFile = DependencyUtil.getArtifact(artifact.groupId(), artifact.artifactId(), artifact.version(), artifact.classifier());
-									lastModified = artifactFile.lastModified();
-								} catch (FileNotFoundException | CoreException e1) {
-									lastModified = -1;
-								}
-								if (lastModified > -1) {
-									try {
-										File sources = DependencyUtil.getSources(artifact.groupId(), artifact.artifactId(), artifact.version());
-										sources.setLastModified(lastModified - 1);
-									} catch (FileNotFoundException | CoreException e) {
-										// ignore
-									}
-									try {
-										File javadoc = DependencyUtil.getJavadoc(artifact.groupId(), artifact.artifactId(), artifact.version());
-										javadoc.setLastModified(lastModified - 1);
-									} catch (FileNotFoundException | CoreException e) {
-										// ignore
-									}
-								}
-							}
-							BuildPathManager buildpathManager = (BuildPathManager) MavenJdtPlugin.getDefault().getBuildpathManager();
-							buildpathManager.scheduleDownload(fragment, artifact, true, true);
-							JobHelpers.waitForDownloadSourcesJobs(MAX_TIME_MILLIS);
-							if (downloadStateCache.getIfPresent(fragment) != null) {
-								downloadStateCache.put(fragment, DOWNLOAD_WAIT_JOB_DONE);
-							}
+						if (!SourceDiscoveryJob.INSTANCE.enqueue(fragment, path)) {
+							// the queue is full, it will be requested again
+							downloadRequestsCache.invalidate(path.toString());
 						}
 					}
 					break;
@@ -127,4 +104,124 @@ public class MavenSourceDownloader implements ISourceDownloader {
 	public void clearDownloadStatus(IPackageFragmentRoot root) {
 		downloadStateCache.invalidate(root);
 	}
+
+	private static void downloadSources(IPackageFragmentRoot fragment, IPath path, IProgressMonitor monitor) throws CoreException {
+		ArtifactKey artifact = identify(path.toFile(), path, monitor);
+		if (artifact == null || monitor.isCanceled()) {
+			return;
+		}
+		// the source request was already answered, the source is reloaded once attached
+		downloadStateCache.put(fragment, DOWNLOAD_WAIT_JOB_DONE);
+		if (!ProjectUtils.isMavenProject(fragment.getJavaProject().getProject())) {
+			// see https://github.com/eclipse-m2e/m2e-core/commit/b547ecc358c990e182a5eaf8d36f121e43f4a8c9#diff-3967743078be6a24ba1e3ec28bfc22bdf2c88a740695411f6d20e2444fef042fR943
+			long lastModified;
+			try {
+				File artifactFile = DependencyUtil.getArtifact(artifact.groupId(), artifact.artifactId(), artifact.version(), artifact.classifier());
+				lastModified = artifactFile.lastModified();
+			} catch (FileNotFoundException | CoreException e1) {
+				lastModified = -1;
+			}
+			if (lastModified > -1) {
+				try {
+					File sources = DependencyUtil.getSources(artifact.groupId(), artifact.artifactId(), artifact.version());
+					sources.setLastModified(lastModified - 1);
+				} catch (FileNotFoundException | CoreException e) {
+					// ignore
+				}
+				try {
+					File javadoc = DependencyUtil.getJavadoc(artifact.groupId(), artifact.artifactId(), artifact.version());
+					javadoc.setLastModified(lastModified - 1);
+				} catch (FileNotFoundException | CoreException e) {
+					// ignore
+				}
+			}
+		}
+		BuildPathManager buildpathManager = (BuildPathManager) MavenJdtPlugin.getDefault().getBuildpathManager();
+		buildpathManager.scheduleDownload(fragment, artifact, true, true);
+	}
+
+	/**
+	 * Identifies the artifact of the jar, from the results of the previous
+	 * sessions if possible.
+	 */
+	private static ArtifactKey identify(File jar, IPath path, IProgressMonitor monitor) {
+		SourceDiscoveryStore.Result result = SourceDiscoveryJob.STORE.get(jar);
+		if (result != null) {
+			return result.artifact();
+		}
+		ArtifactKey artifact = new MavenPropertiesIdentifier().identify(path, monitor);
+		if (artifact == null) {
+			artifact = new MavenCentralIdentifier().identify(path, monitor);
+		}
+		if (!monitor.isCanceled()) {
+			SourceDiscoveryJob.STORE.put(jar, artifact);
+		}
+		return artifact;
+	}
+
+	/**
+	 * Identifies the queued jars and requests their sources, one at a time. A
+	 * jar is queued only once, and at most {@link #MAX_QUEUED_JARS} jars are
+	 * waiting.
+	 */
+	private static class SourceDiscoveryJob extends Job {
+
+		private static final SourceDiscoveryJob INSTANCE = new SourceDiscoveryJob();
+
+		private static final SourceDiscoveryStore STORE = new SourceDiscoveryStore(JavaLanguageServerPlugin.getInstance().getStateLocation().append("sourceDiscovery").toFile());
+
+		private static final int MAX_QUEUED_JARS = 64;
+
+		private final Map<String, Request> queue = new LinkedHashMap<>();
+
+		private record Request(IPackageFragmentRoot fragment, IPath path) {
+		}
+
+		SourceDiscoveryJob() {
+			super("Discover sources");
+			setSystem(true);
+		}
+
+		boolean enqueue(IPackageFragmentRoot fragment, IPath path) {
+			synchronized (queue) {
+				if (!queue.containsKey(path.toString())) {
+					if (queue.size() >= MAX_QUEUED_JARS) {
+						return false;
+					}
+					queue.put(path.toString(), new Request(fragment, path));
+				}
+			}
+			schedule();
+			return true;
+		}
+
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			try {
+				return discoverSources(monitor);
+			} finally {
+				// the results of the batch are saved at once
+				STORE.flush();
+			}
+		}
+
+		private IStatus discoverSources(IProgressMonitor monitor) {
+			while (!monitor.isCanceled()) {
+				Request request;
+				synchronized (queue) {
+					if (queue.isEmpty()) {
+						return Status.OK_STATUS;
+					}
+					String key = queue.keySet().iterator().next();
+					request = queue.remove(key);
+				}
+				try {
+					downloadSources(request.fragment(), request.path(), monitor);
+				} catch (CoreException e) {
+					JavaLanguageServerPlugin.logException("Failed to download the sources of " + request.path(), e);
+				}
+			}
+			return Status.CANCEL_STATUS;
+		}
+	}
 }
@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal.managers;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.runtime.IPath;
+
+/**
+ * The minimal set of paths covering all the paths added to it: a path that is
+ * contained in another path of the set is not kept, whatever the order in
+ * which they are added. The paths are stored in a prefix tree of their
+ * segments, so that adding a path costs its number of segments rather than the
+ * size of the set.
+ */
+public final class PathTree {
+
+	private final Node root = new Node();
+
+	/**
+	 * Adds a path to the set, and removes the paths it contains.
+	 *
+	 * @param path
+	 *            the path to add
+	 * @return <code>false</code> if the path is already covered by the set
+	 */
+	public boolean add(IPath path) {
+		Node node = root.children.computeIfAbsent(String.valueOf(path.getDevice()), k -> new Node());
+		for (String segment : path.segments()) {
+			if (node.path != null) {
+				return false;
+			}
+			node = node.children.computeIfAbsent(segment, k -> new Node());
+		}
+		if (node.path != null) {
+			return false;
+		}
+		node.path = path;
+		node.children.clear();
+		return true;
+	}
+
+	/**
+	 * Returns the paths of the set, none of which contains another.
+	 */
+	public List<IPath> getPaths() {
+		List<IPath> paths = new ArrayList<>();
+		Deque<Node> nodes = new ArrayDeque<>();
+		nodes.push(root);
+		while (!nodes.isEmpty()) {
+			Node node = nodes.pop();
+			if (node.path != null) {
+				paths.add(node.path);
+			} else {
+				// keep the order in which the children were added
+				List<Node> children = new ArrayList<>(node.children.values());
+				for (int i = children.size() - 1; i >= 0; i--) {
+					nodes.push(children.get(i));
+				}
+			}
+		}
+		return paths;
+	}
+
+	private static class Node {
+		private final Map<String, Node> children = new LinkedHashMap<>();
+		private IPath path;
+	}
+}
@@ -387,6 +387,33 @@ public abstract class ProjectsManager implements ISaveParticipant, IProjectsMana
 		return buildSupports().filter(bs -> bs.isBuildLikeFileName(fileName)).findAny().isPresent();
 	}
 
+	/**
+	 * Returns whether a change of the file may need more than a refresh of the
+	 * workspace, that is whether it is a build file or a library of a project.
+	 *
+	 * @param uriString
+	 *            the URI of the changed file
+	 * @return <code>true</code> if the change must be passed to
+	 *         {@link #filesChanged(Map)}
+	 */
+	public boolean isConfigurationFile(String uriString) {
+		IFile file = JDTUtils.findFile(uriString);
+		if (file == null) {
+			return false;
+		}
+		return file.getName().endsWith(".jar") || isBuildLikeFileName(file.getName()) || isBuildFile(file);
+	}
+
+	/**
+	 * Handles the changes of a batch of files, once the workspace is refreshed.
+	 *
+	 * @param changes
+	 *            the change type of each file URI
+	 */
+	public void filesChanged(Map<String, CHANGE_TYPE> changes) {
+		changes.forEach(this::fileChanged);
+	}
+
 	public static IProject getDefaultProject() {
 		return getWorkspaceRoot().getProject(DEFAULT_PROJECT_NAME);
 	}
@@ -743,12 +770,10 @@ public abstract class ProjectsManager implements ISaveParticipant, IProjectsMana
 					continue;
 				}
 
-				for (IProject project : entry.getValue()) {
-					if (monitor.isCanceled()) {
-						return Status.CANCEL_STATUS;
-					}
-					updateProject(entry.getKey(), project, force, status, monitor);
+				if (monitor.isCanceled()) {
+					return Status.CANCEL_STATUS;
 				}
+				updateProjects(entry.getKey(), entry.getValue(), force, status, monitor);
 			}
 
 			onDidConfigurationUpdated(status, monitor);
@@ -782,16 +807,76 @@ public abstract class ProjectsManager implements ISaveParticipant, IProjectsMana
 			}
 		}
 
-		private void updateProject(IBuildSupport buildSupport, IProject project, boolean force,
+		private void updateProjects(IBuildSupport buildSupport, List<IProject> projects, boolean force,
 				MultiStatus status, IProgressMonitor monitor) {
-			try {
-				project.refreshLocal(IResource.DEPTH_INFINITE, monitor);
-				buildSupport.update(project, force, monitor);
-				project.deleteMarkers(BUILD_FILE_MARKER_TYPE, false, IResource.DEPTH_ONE);
-			} catch (CoreException e) {
-				JavaLanguageServerPlugin.log(e);
-				status.add(StatusFactory.newErrorStatus("Error updating " + project.getName(), e));
+			Map<IProject, Set<IPath>> refreshedFolders = new HashMap<>();
+			for (IProject project : projects) {
+				try {
+					refreshedFolders.put(project, refreshConfiguredFolders(project, Collections.emptySet(), monitor));
+				} catch (CoreException e) {
+					JavaLanguageServerPlugin.log(e);
+					status.add(StatusFactory.newErrorStatus("Error refreshing " + project.getName(), e));
+				}
+			}
+			Map<IProject, CoreException> failures = buildSupport.update(projects, force, monitor);
+			for (IProject project : projects) {
+				try {
+					// the update may have configured new source folders
+					if (refreshedFolders.containsKey(project)) {
+						refreshConfiguredFolders(project, refreshedFolders.get(project), monitor);
+					}
+					CoreException failure = failures.get(project);
+					if (failure != null) {
+						throw failure;
+					}
+					project.deleteMarkers(BUILD_FILE_MARKER_TYPE, false, IResource.DEPTH_ONE);
+				} catch (CoreException e) {
+					JavaLanguageServerPlugin.log(e);
+					status.add(StatusFactory.newErrorStatus("Error updating " + project.getName(), e));
+				}
+			}
+		}
+
+		/**
+		 * Refreshes the files at the root of the project, where the build files are,
+		 * and the source and output folders configured on its classpath, rather than
+		 * the whole project tree. A project without a Java classpath yet is refreshed
+		 * entirely. The folders already refreshed, when the project is refreshed
+		 * again after its update, are skipped.
+		 *
+		 * @return the paths of the refreshed folders
+		 */
+		private Set<IPath> refreshConfiguredFolders(IProject project, Set<IPath> skippedFolders, IProgressMonitor monitor) throws CoreException {
+			IJavaProject javaProject = ProjectUtils.isJavaProject(project) ? JavaCore.create(project) : null;
+			if (javaProject == null) {
+				if (skippedFolders.isEmpty()) {
+					project.refreshLocal(IResource.DEPTH_INFINITE, monitor);
+				}
+				return Collections.singleton(project.getFullPath());
+			}
+			Set<IPath> folders = new HashSet<>();
+			if (javaProject.getOutputLocation() != null) {
+				folders.add(javaProject.getOutputLocation());
+			}
+			for (IClasspathEntry entry : javaProject.getRawClasspath()) {
+				if (entry.getEntryKind() == IClasspathEntry.CPE_SOURCE) {
+					folders.add(entry.getPath());
+					if (entry.getOutputLocation() != null) {
+						folders.add(entry.getOutputLocation());
+					}
+				}
+			}
+			if (skippedFolders.isEmpty()) {
+				project.refreshLocal(IResource.DEPTH_ONE, monitor);
+			}
+			IWorkspaceRoot root = project.getWorkspace().getRoot();
+			for (IPath folder : folders) {
+				if (!skippedFolders.contains(folder) && folder.segmentCount() > 1 && project.getFullPath().isPrefixOf(folder)) {
+					root.getFolder(folder).refreshLocal(IResource.DEPTH_INFINITE, monitor);
+				}
 			}
+			folders.add(project.getFullPath());
+			return folders;
 		}
 
 		private void onDidConfigurationUpdated(MultiStatus status, IProgressMonitor monitor) {
@@ -0,0 +1,195 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal.managers;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.ls.core.internal.JavaLanguageServerPlugin;
+import org.eclipse.m2e.core.embedder.ArtifactKey;
+
+/**
+ * Remembers across sessions the artifacts the jars were identified as, and the
+ * jars that couldn't be identified, so that the source discovery doesn't look
+ * them up again on each restart.
+ *
+ * An identified artifact is remembered for 30 days, and a failed
+ * identification, that may be due to a network outage, for a day. The results
+ * are dropped as soon as the jar changes.
+ *
+ * The results are saved when they are flushed, once a batch of jars is
+ * identified, to a temporary file that then replaces the previous one, so
+ * that an interrupted save doesn't lose them.
+ */
+public final class SourceDiscoveryStore {
+
+	private static final long IDENTIFIED_TTL = TimeUnit.DAYS.toMillis(30);
+	private static final long UNIDENTIFIED_TTL = TimeUnit.DAYS.toMillis(1);
+	private static final int MAX_RESULTS = 10000;
+	private static final int VERSION = 1;
+
+	private final File file;
+
+	private Map<String, Result> results;
+
+	private boolean dirty;
+
+	/**
+	 * The outcome of the identification of a jar, <code>artifact</code> is
+	 * <code>null</code> if it couldn't be identified.
+	 */
+	public record Result(long stamp, long time, ArtifactKey artifact) {
+
+		public boolean isExpired(long now) {
+			return now - time > (artifact == null ? UNIDENTIFIED_TTL : IDENTIFIED_TTL);
+		}
+	}
+
+	public SourceDiscoveryStore(File file) {
+		this.file = file;
+	}
+
+	/**
+	 * Returns the result of the identification of the jar, or <code>null</code>
+	 * if it must be identified again.
+	 */
+	public synchronized Result get(File jar) {
+		Result result = getResults().get(jar.getAbsolutePath());
+		if (result == null || result.stamp() != getStamp(jar) || result.isExpired(System.currentTimeMillis())) {
+			return null;
+		}
+		return result;
+	}
+
+	/**
+	 * Remembers the result of the identification of the jar, it is saved on the
+	 * next flush.
+	 */
+	public synchronized void put(File jar, ArtifactKey artifact) {
+		getResults().put(jar.getAbsolutePath(), new Result(getStamp(jar), System.currentTimeMillis(), artifact));
+		dirty = true;
+	}
+
+	/**
+	 * Saves the results remembered since the last flush.
+	 */
+	public synchronized void flush() {
+		if (dirty) {
+			dirty = false;
+			save();
+		}
+	}
+
+	private Map<String, Result> getResults() {
+		if (results == null) {
+			results = load();
+		}
+		return results;
+	}
+
+	private Map<String, Result> load() {
+		Map<String, Result> loaded = new HashMap<>();
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if (in.readInt() != VERSION) {
+				return loaded;
+			}
+			int size = in.readInt();
+			while (size-- > 0) {
+				String path = in.readUTF();
+				long stamp = in.readLong();
+				long time = in.readLong();
+				ArtifactKey artifact = null;
+				if (in.readBoolean()) {
+					String groupId = in.readUTF();
+					String artifactId = in.readUTF();
+					String version = in.readUTF();
+					String classifier = in.readUTF();
+					artifact = new ArtifactKey(groupId, artifactId, version, classifier.isEmpty() ? null : classifier);
+				}
+				loaded.put(path, new Result(stamp, time, artifact));
+			}
+		} catch (IOException e) {
+			if (file.exists()) {
+				JavaLanguageServerPlugin.logException("Unable to read the source discovery results", e);
+			}
+		}
+		return loaded;
+	}
+
+	private void save() {
+		long now = System.currentTimeMillis();
+		results.values().removeIf(result -> result.isExpired(now));
+		if (results.size() > MAX_RESULTS) {
+			List<Map.Entry<String, Result>> entries = new ArrayList<>(results.entrySet());
+			entries.sort(Comparator.comparingLong(entry -> entry.getValue().time()));
+			entries.subList(0, entries.size() - MAX_RESULTS).forEach(entry -> results.remove(entry.getKey()));
+		}
+		file.getParentFile().mkdirs();
+		File temp = new File(file.getPath() + ".tmp");
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+			out.writeInt(VERSION);
+			out.writeInt(results.size());
+			for (Map.Entry<String, Result> entry : results.entrySet()) {
+				Result result = entry.getValue();
+				out.writeUTF(entry.getKey());
+				out.writeLong(result.stamp());
+				out.writeLong(result.time());
+				ArtifactKey artifact = result.artifact();
+				out.writeBoolean(artifact != null);
+				if (artifact != null) {
+					out.writeUTF(artifact.groupId());
+					out.writeUTF(artifact.artifactId());
+					out.writeUTF(artifact.version());
+					out.writeUTF(artifact.classifier() == null ? "" : artifact.classifier());
+				}
+			}
+		} catch (IOException e) {
+			JavaLanguageServerPlugin.logException("Unable to save the source discovery results", e);
+			temp.delete();
+			return;
+		}
+		try {
+			try {
+				Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+		} catch (IOException e) {
+			JavaLanguageServerPlugin.logException("Unable to save the source discovery results", e);
+			temp.delete();
+		}
+	}
+
+	/*
+	 * Answer a combination of the lastModified stamp and the size, like the
+	 * index checksums do.
+	 */
+	private static long getStamp(File jar) {
+		return jar.lastModified() + jar.length();
+	}
+}
@@ -16,7 +16,6 @@ package org.eclipse.jdt.ls.core.internal.managers;
 import static java.util.Arrays.asList;
 import static java.util.Map.entry;
 import static org.eclipse.jdt.ls.core.internal.JavaLanguageServerPlugin.logInfo;
-import static org.eclipse.jdt.ls.core.internal.ResourceUtils.isContainedIn;
 
 import java.io.File;
 import java.io.InputStream;
@@ -27,8 +26,8 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.Hashtable;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -37,6 +36,8 @@ import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -64,7 +65,11 @@ import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.core.runtime.URIUtil;
 import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jdt.core.ElementChangedEvent;
 import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
@@ -88,6 +93,7 @@ import org.eclipse.jdt.ls.core.internal.framework.IFrameworkSupport;
 import org.eclipse.jdt.ls.core.internal.framework.android.AndroidSupport;
 import org.eclipse.jdt.ls.core.internal.framework.protobuf.ProtobufSupport;
 import org.eclipse.jdt.ls.core.internal.handlers.FormatterHandler;
+import org.eclipse.jdt.ls.core.internal.handlers.IndexUtils;
 import org.eclipse.jdt.ls.core.internal.preferences.IPreferencesChangeListener;
 import org.eclipse.jdt.ls.core.internal.preferences.PreferenceManager;
 import org.eclipse.jdt.ls.core.internal.preferences.Preferences;
@@ -105,6 +111,16 @@ public class StandardProjectsManager extends ProjectsManager {
 	private final static String FORMATTER_OPTION_PREFIX = JavaCore.PLUGIN_ID + ".formatter"; //$NON-NLS-1$
 	protected static final String BUILD_SUPPORT_EXTENSION_POINT_ID = "buildSupport";
 	private static final Set<String> watchers = new LinkedHashSet<>();
+	private static String watchersRegistrationId = Preferences.WORKSPACE_WATCHED_FILES_ID;
+	private static final long REGISTER_WATCHERS_DELAY = 300L;
+	private static final int CLASSPATH_CHANGED_FLAGS = IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED | IJavaElementDelta.F_OPENED | IJavaElementDelta.F_CLOSED;
+	/**
+	 * The source and library locations to watch, by project name. An entry is
+	 * computed from the raw classpath of the project and dropped when the
+	 * classpath or the source folders of the project change.
+	 */
+	private final Map<String, List<IPath>> watchedLocations = new ConcurrentHashMap<>();
+	private IElementChangedListener classpathChangeListener;
 	private PreferenceManager preferenceManager;
 	private boolean buildFinished;
 	private boolean shouldUpdateProjects;
@@ -199,97 +215,123 @@ public class StandardProjectsManager extends ProjectsManager {
 		if (uriString == null) {
 			return;
 		}
+		filesChanged(Map.of(uriString, changeType));
+	}
+
+	@Override
+	public boolean isConfigurationFile(String uriString) {
+		return isSettingsFile(uriString) || super.isConfigurationFile(uriString);
+	}
+
+	/**
+	 * Handles the changed files of a batch at once: the settings are configured
+	 * once, and each project whose build files changed is updated once.
+	 */
+	@Override
+	public void filesChanged(Map<String, CHANGE_TYPE> changes) {
 		boolean configureNeeded = false;
-		String formatterUrl = preferenceManager.getPreferences().getFormatterUrl();
-		if (formatterUrl != null && JavaLanguageServerPlugin.getInstance().getProtocol() != null) {
-			URI uri = JDTUtils.toURI(uriString);
-			List<URI> uris = getURIs(formatterUrl);
-			boolean changed = false;
-			for (URI formatterUri : uris) {
-				if (URIUtil.sameURI(formatterUri, uri)) {
-					changed = true;
-					break;
-				}
-			}
-			if (changed) {
+		Map<IProject, Map<String, IResource>> changedBuildFiles = new LinkedHashMap<>();
+		for (Map.Entry<String, CHANGE_TYPE> change : changes.entrySet()) {
+			String uriString = change.getKey();
+			CHANGE_TYPE changeType = change.getValue();
+			if (isSettingsFile(uriString)) {
 				if (changeType == CHANGE_TYPE.DELETED || changeType == CHANGE_TYPE.CREATED) {
 					registerWatchers();
 				}
 				configureNeeded = true;
 			}
-		}
-		String settingsUrl = preferenceManager.getPreferences().getSettingsUrl();
-		if (settingsUrl != null && JavaLanguageServerPlugin.getInstance().getProtocol() != null) {
-			URI uri = JDTUtils.toURI(uriString);
-			List<URI> uris = getURIs(settingsUrl);
-			boolean changed = false;
-			for (URI settingsURI : uris) {
-				if (URIUtil.sameURI(settingsURI, uri)) {
-					changed = true;
-					break;
-				}
+			IResource resource = JDTUtils.getFileOrFolder(uriString);
+			if (resource == null) {
+				continue;
 			}
-			if (changed) {
-				if (changeType == CHANGE_TYPE.DELETED || changeType == CHANGE_TYPE.CREATED) {
-					registerWatchers();
+			try {
+				IProject project = resource.getProject();
+				Optional<IBuildSupport> bs = getBuildSupport(project);
+				if (bs.isPresent()) {
+					IBuildSupport buildSupport = bs.get();
+
+					if (JDTUtils.isExcludedFile(buildSupport.getExcludedFilePatterns(), uriString)) {
+						continue;
+					}
+
+					boolean requireConfigurationUpdate = buildSupport.fileChanged(resource, changeType, new NullProgressMonitor()) &&
+							JavaLanguageServerPlugin.getDigestStore().updateDigest(resource.getLocation().toFile().toPath());
+					if (requireConfigurationUpdate) {
+						changedBuildFiles.computeIfAbsent(project, p -> new LinkedHashMap<>()).put(uriString, resource);
+					}
 				}
-				configureNeeded = true;
+			} catch (CoreException e) {
+				JavaLanguageServerPlugin.logException("Problem refreshing workspace", e);
 			}
 		}
 		if (configureNeeded) {
 			configureSettings(preferenceManager.getPreferences());
 		}
-		IResource resource = JDTUtils.getFileOrFolder(uriString);
-		if (resource == null) {
-			return;
-		}
-		try {
-			IProject project = resource.getProject();
-			Optional<IBuildSupport> bs = getBuildSupport(project);
-			if (bs.isPresent()) {
-				IBuildSupport buildSupport = bs.get();
-
-				if (JDTUtils.isExcludedFile(buildSupport.getExcludedFilePatterns(), uriString)) {
-					return;
-				}
+		changedBuildFiles.forEach(this::buildFilesChanged);
+	}
 
-				boolean requireConfigurationUpdate = buildSupport.fileChanged(resource, changeType, new NullProgressMonitor()) &&
-						JavaLanguageServerPlugin.getDigestStore().updateDigest(resource.getLocation().toFile().toPath());
-				if (requireConfigurationUpdate) {
-					FeatureStatus status = preferenceManager.getPreferences().getUpdateBuildConfigurationStatus();
-					switch (status) {
-						case automatic:
-							if (ProjectUtils.isGradleProject(project)) {
-								// The sync task is handled by Buildship when sync.auto is turned on,
-								// except for the annotation processing configuration updating.
-								// See https://github.com/redhat-developer/vscode-java/issues/2673
-								GradleBuildSupport.syncAnnotationProcessingConfiguration(project, new NullProgressMonitor());
-								return;
-							}
-							updateProject(project, true);
-							break;
-						case disabled:
-							appendBuildFileMarker(resource);
-							break;
-						default:
-							if (client != null) {
-								String cmd = "java.projectConfiguration.status";
-								TextDocumentIdentifier uri = new TextDocumentIdentifier(uriString);
-								ActionableNotification updateProjectConfigurationNotification = new ActionableNotification().withSeverity(MessageType.Info)
-										.withMessage("A build file was modified. Do you want to synchronize the Java classpath/configuration?").withCommands(asList(new Command("Yes", cmd, asList(uri, FeatureStatus.interactive)),
-												new Command("Always", cmd, asList(uri, FeatureStatus.automatic)), new Command("Never", cmd, asList(uri, FeatureStatus.disabled))));
-								client.sendActionableNotification(updateProjectConfigurationNotification);
-							}
-							appendBuildFileMarker(resource);
-							break;
+	private void buildFilesChanged(IProject project, Map<String, IResource> buildFiles) {
+		try {
+			FeatureStatus status = preferenceManager.getPreferences().getUpdateBuildConfigurationStatus();
+			switch (status) {
+				case automatic:
+					if (ProjectUtils.isGradleProject(project)) {
+						// The sync task is handled by Buildship when sync.auto is turned on,
+						// except for the annotation processing configuration updating.
+						// See https://github.com/redhat-developer/vscode-java/issues/2673
+						GradleBuildSupport.syncAnnotationProcessingConfiguration(project, new NullProgressMonitor());
+						return;
 					}
-				}
+					updateProject(project, true);
+					break;
+				case disabled:
+					for (IResource buildFile : buildFiles.values()) {
+						appendBuildFileMarker(buildFile);
+					}
+					break;
+				default:
+					if (client != null) {
+						String cmd = "java.projectConfiguration.status";
+						TextDocumentIdentifier uri = new TextDocumentIdentifier(buildFiles.keySet().iterator().next());
+						ActionableNotification updateProjectConfigurationNotification = new ActionableNotification().withSeverity(MessageType.Info)
+								.withMessage("A build file was modified. Do you want to synchronize the Java classpath/configuration?").withCommands(asList(new Command("Yes", cmd, asList(uri, FeatureStatus.interactive)),
+										new Command("Always", cmd, asList(uri, FeatureStatus.automatic)), new Command("Never", cmd, asList(uri, FeatureStatus.disabled))));
+						client.sendActionableNotification(updateProjectConfigurationNotification);
+					}
+					for (IResource buildFile : buildFiles.values()) {
+						appendBuildFileMarker(buildFile);
+					}
+					break;
 			}
 		} catch (CoreException e) {
 			JavaLanguageServerPlugin.logException("Problem refreshing workspace", e);
 		}
 	}
 
+	/**
+	 * Returns whether the file is the formatter or the settings file of the
+	 * preferences.
+	 */
+	private boolean isSettingsFile(String uriString) {
+		if (JavaLanguageServerPlugin.getInstance().getProtocol() == null) {
+			return false;
+		}
+		URI uri = JDTUtils.toURI(uriString);
+		return matches(preferenceManager.getPreferences().getFormatterUrl(), uri) || matches(preferenceManager.getPreferences().getSettingsUrl(), uri);
+	}
+
+	private boolean matches(String url, URI uri) {
+		if (url == null) {
+			return false;
+		}
+		for (URI candidate : getURIs(url)) {
+			if (URIUtil.sameURI(candidate, uri)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	private void appendBuildFileMarker(IResource resource) throws CoreException {
 		IMarker[] markers = resource.findMarkers(BUILD_FILE_MARKER_TYPE, false, IResource.DEPTH_ZERO);
 		if (markers.length > 0) {
@@ -437,7 +479,8 @@ public class StandardProjectsManager extends ProjectsManager {
 	@Override
 	public void registerWatchers(boolean runInJob) {
 		if (runInJob) {
-			registerWatcherJob.schedule();
+			// coalesce the requests of consecutive project updates
+			registerWatcherJob.schedule(REGISTER_WATCHERS_DELAY);
 		} else {
 			registerWatchers();
 		}
@@ -449,8 +492,10 @@ public class StandardProjectsManager extends ProjectsManager {
 		if (preferenceManager.getClientPreferences().isWorkspaceChangeWatchedFilesDynamicRegistered()) {
 			Set<String> patterns = new LinkedHashSet<>(basicWatchers);
 			buildSupports().forEach(e -> e.getWatchPatterns().forEach(patterns::add));
-			Set<IPath> sources = new HashSet<>();
+			addClasspathChangeListener();
+			PathTree sources = new PathTree();
 			IProject[] projects = ResourcesPlugin.getWorkspace().getRoot().getProjects();
+			watchedLocations.keySet().retainAll(Arrays.stream(projects).map(IProject::getName).collect(Collectors.toSet()));
 			try {
 				for (IProject project : projects) {
 					if (DEFAULT_PROJECT_NAME.equals(project.getName())) {
@@ -458,45 +503,12 @@ public class StandardProjectsManager extends ProjectsManager {
 					}
 					IJavaProject javaProject = JavaCore.create(project);
 					if (javaProject != null && javaProject.exists()) {
-						IClasspathEntry[] classpath = javaProject.getRawClasspath();
-						for (IClasspathEntry entry : classpath) {
-							if (entry.getEntryKind() == IClasspathEntry.CPE_SOURCE) {
-								IPath path = entry.getPath();
-								if (path != null && !path.toString().contains("/src/") && !path.toString().endsWith("/src")) {
-									IPath location = null;
-									if (Objects.equals(entry.getPath(), project.getFullPath())) {
-										location = project.getLocation();
-									} else {
-										IFolder folder;
-										try {
-											folder = ResourcesPlugin.getWorkspace().getRoot().getFolder(path);
-											if (folder.exists() && !folder.isDerived()) {
-												location = folder.getLocation();
-											}
-										} catch (Exception e1) {
-											JavaLanguageServerPlugin.logException(e1.getMessage(), e1);
-										}
-									}
-									if (location != null && !isContainedIn(location, sources)) {
-										sources.add(location);
-									}
-								}
-							}
-							if (entry.getEntryKind() == IClasspathEntry.CPE_LIBRARY) {
-								IPath path = entry.getPath();
-								try {
-									IFile resource = ResourcesPlugin.getWorkspace().getRoot().getFile(path);
-									if (resource != null && !resource.isDerived()) {
-										IPath location = resource.getLocation();
-										if (location != null && !isContainedIn(location, sources)) {
-											sources.add(location);
-										}
-									}
-								} catch (Exception e1) {
-									JavaLanguageServerPlugin.logException(e1.getMessage(), e1);
-								}
-							}
+						List<IPath> locations = watchedLocations.get(project.getName());
+						if (locations == null) {
+							locations = getWatchedLocations(project, javaProject);
+							watchedLocations.put(project.getName(), locations);
 						}
+						locations.forEach(sources::add);
 						if (!ProjectUtils.isVisibleProject(project)) { // Invisible project will watch referenced libraries' include patterns
 							IPath projectFolder = ProjectUtils.getProjectRealFolder(project);
 							Set<String> libraries = preferenceManager.getPreferences().getReferencedLibraries().getInclude();
@@ -511,8 +523,8 @@ public class StandardProjectsManager extends ProjectsManager {
 				JavaLanguageServerPlugin.logException(e.getMessage(), e);
 			}
 			List<FileSystemWatcher> fileWatchers = new ArrayList<>();
-			patterns.addAll(sources.stream().map(ResourceUtils::toGlobPattern).collect(Collectors.toList()));
-			sources.clear();
+			patterns.addAll(sources.getPaths().stream().map(ResourceUtils::toGlobPattern).collect(Collectors.toList()));
+			sources = new PathTree();
 			URI formatter = preferenceManager.getPreferences().getFormatterAsURI();
 			if (formatter == null && preferenceManager.getPreferences().getFormatterUrl() != null) {
 				List<URI> uris = getURIs(preferenceManager.getPreferences().getFormatterUrl());
@@ -531,7 +543,7 @@ public class StandardProjectsManager extends ProjectsManager {
 			} else {
 				addWatcher(settings, sources);
 			}
-			patterns.addAll(sources.stream().map(p -> ResourceUtils.toGlobPattern(p, false)).collect(Collectors.toList()));
+			patterns.addAll(sources.getPaths().stream().map(p -> ResourceUtils.toGlobPattern(p, false)).collect(Collectors.toList()));
 			for (String pattern : patterns) {
 				FileSystemWatcher watcher = new FileSystemWatcher(Either.forLeft(pattern));
 				fileWatchers.add(watcher);
@@ -547,8 +559,13 @@ public class StandardProjectsManager extends ProjectsManager {
 			if (!patterns.equals(watchers)) {
 				logInfo(">> registerFeature 'workspace/didChangeWatchedFiles'");
 				DidChangeWatchedFilesRegistrationOptions didChangeWatchedFilesRegistrationOptions = new DidChangeWatchedFilesRegistrationOptions(fileWatchers);
-				JavaLanguageServerPlugin.getInstance().unregisterCapability(Preferences.WORKSPACE_WATCHED_FILES_ID, Preferences.WORKSPACE_WATCHED_FILES);
-				JavaLanguageServerPlugin.getInstance().registerCapability(Preferences.WORKSPACE_WATCHED_FILES_ID, Preferences.WORKSPACE_WATCHED_FILES, didChangeWatchedFilesRegistrationOptions);
+				// register the new watchers before removing the previous ones, so that no change is missed in between
+				String previousRegistrationId = watchersRegistrationId;
+				watchersRegistrationId = watchers.isEmpty() ? previousRegistrationId : UUID.randomUUID().toString();
+				JavaLanguageServerPlugin.getInstance().registerCapability(watchersRegistrationId, Preferences.WORKSPACE_WATCHED_FILES, didChangeWatchedFilesRegistrationOptions);
+				if (!previousRegistrationId.equals(watchersRegistrationId)) {
+					JavaLanguageServerPlugin.getInstance().unregisterCapability(previousRegistrationId, Preferences.WORKSPACE_WATCHED_FILES);
+				}
 				watchers.clear();
 				watchers.addAll(patterns);
 			}
@@ -557,6 +574,81 @@ public class StandardProjectsManager extends ProjectsManager {
 		return Collections.emptyList();
 	}
 
+	/**
+	 * Returns the locations of the source folders and libraries of the project
+	 * that are not already covered by the basic watchers.
+	 */
+	private List<IPath> getWatchedLocations(IProject project, IJavaProject javaProject) throws JavaModelException {
+		List<IPath> locations = new ArrayList<>();
+		IClasspathEntry[] classpath = javaProject.getRawClasspath();
+		for (IClasspathEntry entry : classpath) {
+			if (entry.getEntryKind() == IClasspathEntry.CPE_SOURCE) {
+				IPath path = entry.getPath();
+				if (path != null && !path.toString().contains("/src/") && !path.toString().endsWith("/src")) {
+					IPath location = null;
+					if (Objects.equals(entry.getPath(), project.getFullPath())) {
+						location = project.getLocation();
+					} else {
+						IFolder folder;
+						try {
+							folder = ResourcesPlugin.getWorkspace().getRoot().getFolder(path);
+							if (folder.exists() && !folder.isDerived()) {
+								location = folder.getLocation();
+							}
+						} catch (Exception e1) {
+							JavaLanguageServerPlugin.logException(e1.getMessage(), e1);
+						}
+					}
+					if (location != null && !locations.contains(location)) {
+						locations.add(location);
+					}
+				}
+			}
+			if (entry.getEntryKind() == IClasspathEntry.CPE_LIBRARY) {
+				IPath path = entry.getPath();
+				try {
+					IFile resource = ResourcesPlugin.getWorkspace().getRoot().getFile(path);
+					if (resource != null && !resource.isDerived()) {
+						IPath location = resource.getLocation();
+						if (location != null && !locations.contains(location)) {
+							locations.add(location);
+						}
+					}
+				} catch (Exception e1) {
+					JavaLanguageServerPlugin.logException(e1.getMessage(), e1);
+				}
+			}
+		}
+		return locations;
+	}
+
+	private synchronized void addClasspathChangeListener() {
+		if (classpathChangeListener == null) {
+			classpathChangeListener = event -> {
+				for (IJavaElementDelta delta : event.getDelta().getAffectedChildren()) {
+					if (delta.getElement().getElementType() == IJavaElement.JAVA_PROJECT && isClasspathChanged(delta)) {
+						watchedLocations.remove(delta.getElement().getElementName());
+					}
+				}
+			};
+			JavaCore.addElementChangedListener(classpathChangeListener, ElementChangedEvent.POST_CHANGE);
+		}
+	}
+
+	private static boolean isClasspathChanged(IJavaElementDelta projectDelta) {
+		if (projectDelta.getKind() != IJavaElementDelta.CHANGED || (projectDelta.getFlags() & CLASSPATH_CHANGED_FLAGS) != 0) {
+			return true;
+		}
+		for (IJavaElementDelta delta : projectDelta.getAffectedChildren()) {
+			// a source folder was created or deleted, or a root was added to or removed from the classpath
+			if (delta.getElement().getElementType() == IJavaElement.PACKAGE_FRAGMENT_ROOT
+					&& (delta.getKind() != IJavaElementDelta.CHANGED || (delta.getFlags() & (IJavaElementDelta.F_ADDED_TO_CLASSPATH | IJavaElementDelta.F_REMOVED_FROM_CLASSPATH)) != 0)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	private List<URI> getURIs(String url) {
 		if (url == null) {
 			return Collections.emptyList();
@@ -591,15 +683,13 @@ public class StandardProjectsManager extends ProjectsManager {
 		return result;
 	}
 
-	private void addWatcher(URI uri, Set<IPath> sources) {
+	private void addWatcher(URI uri, PathTree sources) {
 		if (uri != null && "file".equals(uri.getScheme())) {
 			try {
 				File file = new File(uri);
 				if (file != null) {
 					IPath path = new Path(file.getAbsolutePath());
-					if (!isContainedIn(path, sources)) {
-						sources.add(path);
-					}
+					sources.add(path);
 				}
 			} catch (Exception e) {
 				JavaLanguageServerPlugin.logException(e.getMessage(), e);
@@ -652,6 +742,11 @@ public class StandardProjectsManager extends ProjectsManager {
 
 	@Override
 	public void unregisterListeners() {
+		if (classpathChangeListener != null) {
+			JavaCore.removeElementChangedListener(classpathChangeListener);
+			classpathChangeListener = null;
+			watchedLocations.clear();
+		}
 		if (this.preferenceChangeListener == null) {
 			this.preferenceManager.removePreferencesChangeListener(this.preferenceChangeListener);
 		}
@@ -720,6 +815,11 @@ public class StandardProjectsManager extends ProjectsManager {
 				if (javaProjects.length <= 0) {
 					return Status.OK_STATUS;
 				}
+				JobHelpers.waitUntilIndexesReady();
+				int rebuilt = IndexUtils.verifyLibraryIndexes(javaProjects, monitor);
+				if (rebuilt > 0) {
+					JavaLanguageServerPlugin.logInfo("Rebuilding the indexes of " + rebuilt + " libraries.");
+				}
 				SearchEngine engine = new SearchEngine();
 				IJavaSearchScope scope = SearchEngine.createWorkspaceScope();
 				boolean found[] = { false };
@@ -737,11 +837,15 @@ public class StandardProjectsManager extends ProjectsManager {
 					return Status.CANCEL_STATUS;
 				}
 				if (!found[0]) {
-					try {
-						JavaLanguageServerPlugin.logInfo("Unable to locate JDK types through index. Attempting to rebuild all indexes.");
-						JavaCore.rebuildIndex(monitor);
-					} catch (CoreException e) {
-						JavaLanguageServerPlugin.logException(e);
+					if (IndexUtils.rebuildJREIndexes(javaProjects) > 0) {
+						JavaLanguageServerPlugin.logInfo("Unable to locate JDK types through index. Attempting to rebuild the JDK indexes.");
+					} else {
+						try {
+							JavaLanguageServerPlugin.logInfo("Unable to locate JDK types through index. Attempting to rebuild all indexes.");
+							JavaCore.rebuildIndex(monitor);
+						} catch (CoreException e) {
+							JavaLanguageServerPlugin.logException(e);
+						}
 					}
 				}
 				return Status.OK_STATUS;
@@ -15,15 +15,24 @@ package org.eclipse.jdt.ls.core.internal.filesystem;
 
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.eclipse.core.internal.preferences.EclipsePreferences;
+import org.eclipse.core.internal.resources.Workspace;
 import org.eclipse.core.resources.IContainer;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IProjectDescription;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.IWorkspace;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.jdt.core.IJavaProject;
@@ -53,6 +62,15 @@ public class JLSFsUtils {
         FACTORY_PATH
     ));
 
+    /**
+     * Upper bound on the number of directories whose exclusion is memoized.
+     */
+    private static final int MAX_EXCLUDED_DIRECTORIES = 10000;
+
+    private static volatile ExclusionCache exclusionCache;
+
+    private static volatile ProjectLocations projectLocations;
+
     /**
      * Determine whether the resource should be stored in workspace's metadata folder.
      * <p>
@@ -118,21 +136,46 @@ public class JLSFsUtils {
      * @return whether the given location is excluded.
      */
     public static boolean isExcluded(IPath path) {
-        if (path != null && JDTLSFilesystemActivator.getResourcePatterns() != null) {
-            for (String segment : path.segments()) {
-                for (Pattern pattern : JDTLSFilesystemActivator.getResourcePatterns()) {
-                    Matcher m = pattern.matcher(segment);
-                    if (m.matches()) {
-                        return true;
-                    }
-                }
+        List<Pattern> patterns = JDTLSFilesystemActivator.getResourcePatterns();
+        if (path != null && patterns != null) {
+            ExclusionCache cache = exclusionCache;
+            // the patterns are replaced, not modified, when the resource filters change
+            if (cache == null || cache.patterns() != patterns || cache.verdicts().size() > MAX_EXCLUDED_DIRECTORIES) {
+                cache = new ExclusionCache(patterns, new ConcurrentHashMap<>());
+                exclusionCache = cache;
             }
-            return false;
+            return isExcluded(path, cache);
         } else {
             return true;
         }
     }
 
+    /**
+     * Check the last segment of the path against the patterns, and reuse the
+     * verdict of its parent directory for the other segments.
+     */
+    private static boolean isExcluded(IPath path, ExclusionCache cache) {
+        if (path.segmentCount() == 0) {
+            return false;
+        }
+        for (Pattern pattern : cache.patterns()) {
+            Matcher m = pattern.matcher(path.lastSegment());
+            if (m.matches()) {
+                return true;
+            }
+        }
+        IPath parent = path.removeLastSegments(1);
+        Boolean excluded = cache.verdicts().get(parent);
+        if (excluded == null) {
+            excluded = isExcluded(parent, cache);
+            cache.verdicts().put(parent, excluded);
+        }
+        return excluded;
+    }
+
+    private record ExclusionCache(List<Pattern> patterns, Map<IPath, Boolean> verdicts) {
+    }
+
     /**
      * Get the container path of the given file path.
      * If the file path is a preferences file, the grand-parent container will be returned.
@@ -152,14 +195,73 @@ public class JLSFsUtils {
      * @return The project name
      */
     static String getProjectNameIfLocationIsProjectRoot(IPath location) {
-        IProject[] projects = ResourcesPlugin.getWorkspace().getRoot().getProjects(IContainer.INCLUDE_HIDDEN);
-        for (IProject project : projects) {
-            IPath projectLocation = project.getLocation();
-            if (Objects.equals(projectLocation, location)) {
-                return project.getName();
+        IWorkspace workspace = ResourcesPlugin.getWorkspace();
+        if (location == null || !(workspace instanceof Workspace ws) || !ws.isOpen()) {
+            IProject[] projects = workspace.getRoot().getProjects(IContainer.INCLUDE_HIDDEN);
+            for (IProject project : projects) {
+                IPath projectLocation = project.getLocation();
+                if (Objects.equals(projectLocation, location)) {
+                    return project.getName();
+                }
+            }
+            return null;
+        }
+        ProjectLocations locations = projectLocations;
+        if (locations == null) {
+            synchronized (JLSFsUtils.class) {
+                locations = projectLocations;
+                if (locations == null) {
+                    locations = new ProjectLocations();
+                    workspace.addResourceChangeListener(locations, IResourceChangeEvent.POST_CHANGE);
+                    projectLocations = locations;
+                }
+            }
+        }
+        return locations.getProjectName(ws, location);
+    }
+
+    /**
+     * The names of the workspace projects by location, so that resolving the
+     * project of a directory does not compute the location of every project.
+     * The map is rebuilt after projects are added or removed, which is known
+     * from the resource deltas, or from the number of projects for the projects
+     * created by an operation that has not notified its changes yet.
+     */
+    private static final class ProjectLocations implements IResourceChangeListener {
+
+        private volatile Map<IPath, String> names;
+        private volatile int projectCount;
+
+        String getProjectName(Workspace workspace, IPath location) {
+            Map<IPath, String> current = names;
+            int count = workspace.getElementTree().getChildCount(IPath.ROOT);
+            if (current == null || count != projectCount) {
+                current = new ConcurrentHashMap<>();
+                for (IProject project : workspace.getRoot().getProjects(IContainer.INCLUDE_HIDDEN)) {
+                    IPath projectLocation = project.getLocation();
+                    if (projectLocation != null) {
+                        current.putIfAbsent(projectLocation, project.getName());
+                    }
+                }
+                names = current;
+                projectCount = count;
+            }
+            return current.get(location);
+        }
+
+        @Override
+        public void resourceChanged(IResourceChangeEvent event) {
+            IResourceDelta delta = event.getDelta();
+            if (delta == null) {
+                return;
+            }
+            for (IResourceDelta child : delta.getAffectedChildren(IResourceDelta.ADDED | IResourceDelta.REMOVED, IContainer.INCLUDE_HIDDEN)) {
+                if (child.getResource().getType() == IResource.PROJECT) {
+                    names = null;
+                    return;
+                }
             }
         }
-        return null;
     }
 
     /**
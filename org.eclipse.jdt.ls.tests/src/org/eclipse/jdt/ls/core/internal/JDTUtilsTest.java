@@ -210,6 +210,23 @@ public class JDTUtilsTest extends AbstractWorkspaceTest {
 		Files.walk(path, FileVisitOption.FOLLOW_LINKS).sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
 	}
 
+	@Test
+	public void testFindFileAfterLinkCreated() throws Exception {
+		File file = File.createTempFile("testFindFile", ".txt");
+		try {
+			URI uri = file.toURI();
+			assertNull(JDTUtils.findFile(uri.toString()));
+			IProject project = WorkspaceHelper.getProject(ProjectsManager.DEFAULT_PROJECT_NAME);
+			IFile link = project.getFile(file.getName());
+			link.createLink(uri, IResource.REPLACE, new NullProgressMonitor());
+			assertEquals(link, JDTUtils.findFile(uri.toString()));
+			link.delete(true, new NullProgressMonitor());
+			assertNull(JDTUtils.findFile(uri.toString()));
+		} finally {
+			file.delete();
+		}
+	}
+
 	@Test
 	public void testIsFolder() throws Exception {
 		IProject project = WorkspaceHelper.getProject(ProjectsManager.DEFAULT_PROJECT_NAME);
@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.jdt.ls.core.internal;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdt.ls.core.internal.LogReader.LogEntry;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class LogReaderTest {
+
+	//@formatter:off
+	private static final String LOG =
+			"!SESSION 2024-01-01 10:00:00.000 -----------------------------------------------\n" +
+			"eclipse.buildId=unknown\n" +
+			"\n" +
+			"!ENTRY org.eclipse.jdt.ls.core 4 0 2024-01-01 10:00:01.000\n" +
+			"!MESSAGE old session\n" +
+			"\n" +
+			"!SESSION 2024-01-02 10:00:00.000 -----------------------------------------------\n" +
+			"eclipse.buildId=unknown\n" +
+			"\n" +
+			"!ENTRY org.eclipse.jdt.ls.core 1 0 2024-01-02 10:00:01.000\n" +
+			"!MESSAGE first\n" +
+			"\n" +
+			"!ENTRY org.eclipse.jdt.ls.core 4 0 2024-01-02 10:00:02.000\n" +
+			"!MESSAGE second\n" +
+			"!STACK 0\n" +
+			"java.lang.IllegalStateException\n" +
+			"\tat Foo.bar(Foo.java:1)\n" +
+			"\n" +
+			"!ENTRY org.eclipse.jdt.ls.core 2 0 2024-01-02 10:00:03.000\n" +
+			"!MESSAGE third\n";
+	//@formatter:on
+
+	private File logFile;
+
+	@Before
+	public void setUp() throws Exception {
+		logFile = File.createTempFile("workspace", ".log");
+		Files.writeString(logFile.toPath(), LOG);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		Files.deleteIfExists(logFile.toPath());
+	}
+
+	@Test
+	public void testReadLastSession() {
+		List<LogEntry> entries = new ArrayList<>();
+		int count = LogReader.readLastSession(logFile, null, Integer.MAX_VALUE, Long.MAX_VALUE, entries::add);
+		assertEquals(3, count);
+		assertEquals("first", entries.get(0).getMessage().trim());
+		assertEquals("second", entries.get(1).getMessage().trim());
+		assertEquals("java.lang.IllegalStateException", entries.get(1).getStack().lines().findFirst().get());
+		assertEquals("third", entries.get(2).getMessage().trim());
+	}
+
+	@Test
+	public void testReadLastSessionMaxEntries() {
+		List<LogEntry> entries = new ArrayList<>();
+		int count = LogReader.readLastSession(logFile, null, 2, Long.MAX_VALUE, entries::add);
+		assertEquals(2, count);
+		assertEquals("second", entries.get(1).getMessage().trim());
+	}
+
+	@Test
+	public void testReadLastSessionMaxBytes() {
+		List<LogEntry> entries = new ArrayList<>();
+		// only the tail of the "second" entry and the "third" entry fit
+		long maxBytes = LOG.length() - LOG.indexOf("!MESSAGE second");
+		int count = LogReader.readLastSession(logFile, null, Integer.MAX_VALUE, maxBytes, entries::add);
+		assertEquals(1, count);
+		assertEquals("third", entries.get(0).getMessage().trim());
+	}
+}
@@ -0,0 +1,67 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal.cleanup;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.Document;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextEdit;
+import org.junit.Test;
+
+public class LineDiffTest {
+
+	@Test
+	public void testNoChange() {
+		assertTrue(LineDiff.computeEdits("a\nb\n", "a\nb\n").isEmpty());
+	}
+
+	@Test
+	public void testScatteredChanges() throws BadLocationException {
+		String oldText = "package p;\n\nclass A {\n\tint a;\n\tint b;\n\tint c;\n\tint d;\n}\n";
+		String newText = "package p;\n\nimport q.B;\n\nclass A {\n\tint a;\n\tfinal int b;\n\tint c;\n}\n";
+		List<TextEdit> edits = LineDiff.computeEdits(oldText, newText);
+		assertEquals(3, edits.size());
+		assertEquals(new Range(new org.eclipse.lsp4j.Position(2, 0), new org.eclipse.lsp4j.Position(2, 0)), edits.get(0).getRange());
+		assertEquals("import q.B;\n\n", edits.get(0).getNewText());
+		assertEquals("\tfinal int b;\n", edits.get(1).getNewText());
+		assertEquals("", edits.get(2).getNewText());
+		assertEquals(newText, apply(oldText, edits));
+	}
+
+	@Test
+	public void testEndOfDocument() throws BadLocationException {
+		String oldText = "a\r\nb\r\nc";
+		String newText = "a\r\nb\r\nc\r\nd";
+		List<TextEdit> edits = LineDiff.computeEdits(oldText, newText);
+		assertEquals(1, edits.size());
+		assertEquals(newText, apply(oldText, edits));
+		assertEquals("x\ny", apply("", LineDiff.computeEdits("", "x\ny")));
+		assertEquals("", apply("x\ny\n", LineDiff.computeEdits("x\ny\n", "")));
+	}
+
+	private static String apply(String text, List<TextEdit> edits) throws BadLocationException {
+		Document document = new Document(text);
+		for (int i = edits.size() - 1; i >= 0; i--) {
+			TextEdit edit = edits.get(i);
+			int start = document.getLineOffset(edit.getRange().getStart().getLine()) + edit.getRange().getStart().getCharacter();
+			int end = document.getLineOffset(edit.getRange().getEnd().getLine()) + edit.getRange().getEnd().getCharacter();
+			document.replace(start, end - start, edit.getNewText());
+		}
+		return document.get();
+	}
+}
@@ -377,6 +377,16 @@ public class ProjectCommandTest extends AbstractInvisibleProjectBasedTest {
 		assertTrue(ProjectCommand.isTestFile(testUri));
 	}
 
+	@Test
+	public void testIsTestFilesForMaven() throws Exception {
+		importProjects("maven/classpathtest");
+		IProject project = WorkspaceHelper.getProject("classpathtest");
+		String srcUri = project.getFile("src/main/java/main/App.java").getLocationURI().toString();
+		String testUri = project.getFile("src/test/java/test/AppTest.java").getLocationURI().toString();
+		String pomUri = project.getFile("pom.xml").getLocationURI().toString();
+		assertEquals(Arrays.asList(false, true, false), ProjectCommand.isTestFiles(Arrays.asList(srcUri, testUri, pomUri)));
+	}
+
 	@Test
 	public void testIsTestFileForGradle() throws Exception {
 		importProjects("gradle/simple-gradle");
@@ -45,6 +45,15 @@ public class JLSFsUtilsTest {
 		assertTrue(JLSFsUtils.isExcluded(path));
 	}
 
+	@Test
+	public void testExcludedParent() {
+		assertTrue(JLSFsUtils.isExcluded(new Path("/project/node_modules/foo/bar")));
+		assertTrue(JLSFsUtils.isExcluded(new Path("/project/node_modules/foo")));
+		assertFalse(JLSFsUtils.isExcluded(new Path("/project/src/foo")));
+		assertTrue(JLSFsUtils.isExcluded(new Path("/project/src/.git")));
+		assertFalse(JLSFsUtils.isExcluded(new Path("/project/src/foo/bar")));
+	}
+
 	@After
 	public void cleanUp() throws Exception {
 		System.clearProperty(JLSFsUtils.GENERATES_METADATA_FILES_AT_PROJECT_ROOT);
@@ -13,14 +13,25 @@
 
 package org.eclipse.jdt.ls.core.internal.framework.protobuf;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
+import java.io.File;
+import java.nio.file.Files;
 import java.util.Arrays;
 import java.util.List;
 
+import org.eclipse.buildship.core.GradleBuild;
+import org.eclipse.buildship.core.GradleCore;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.jdt.core.IClasspathAttribute;
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.ls.core.internal.JavaLanguageServerPlugin;
 import org.eclipse.jdt.ls.core.internal.managers.AbstractGradleBasedTest;
 import org.junit.After;
@@ -63,4 +74,67 @@ public class ProtobufSupportTest extends AbstractGradleBasedTest {
 
 		assertTrue(project.getFile("build/extracted-protos").getLocation().toFile().exists());
 	}
+
+	@Test
+	public void testSkipGeneratedProjects() throws Exception {
+		IProject project = importGradleProject("protobuf");
+		File outputDir = getProtobufOutputDirectory(project);
+		ProtobufSupport protobufSupport = new ProtobufSupport();
+
+		File generated = new File(outputDir, "Generated.java");
+		Files.writeString(generated.toPath(), "public class Generated {}");
+		protobufSupport.onDidProjectsImported(new NullProgressMonitor());
+		assertEquals(0, getNotificationCount());
+
+		// the output directories are not searched again while the proto files are unchanged
+		Files.delete(generated.toPath());
+		protobufSupport.onDidProjectsImported(new NullProgressMonitor());
+		assertEquals(0, getNotificationCount());
+
+		File protoFile = project.getFile("src/main/proto/simple.proto").getLocation().toFile();
+		assertTrue(protoFile.setLastModified(protoFile.lastModified() + 10000));
+		protobufSupport.onDidProjectsImported(new NullProgressMonitor());
+		assertEquals(1, getNotificationCount());
+	}
+
+	@Test
+	public void testGetGenerateProtobufTasks() throws Exception {
+		IProject project = importGradleProject("protobuf");
+		GradleBuild build = GradleCore.getWorkspace().getBuild(project).get();
+
+		String[] tasks = ProtobufSupport.getGenerateProtobufTasks(build, Arrays.asList(project), new NullProgressMonitor());
+		assertArrayEquals(new String[] { ":generateProto", ":generateTestProto" }, tasks);
+	}
+
+	@Test
+	public void testGetGenerateProtobufTasksOfUnknownProject() throws Exception {
+		IProject project = importGradleProject("protobuf");
+		GradleBuild build = GradleCore.getWorkspace().getBuild(project).get();
+		IProject unknown = mock(IProject.class);
+		when(unknown.getLocation()).thenReturn(new Path(project.getLocation().toFile().getParent()).append("unknown"));
+
+		// the task names select the tasks of all the projects of the build
+		String[] tasks = ProtobufSupport.getGenerateProtobufTasks(build, Arrays.asList(project, unknown), new NullProgressMonitor());
+		assertArrayEquals(new String[] { "generateProto", "generateTestProto" }, tasks);
+		tasks = ProtobufSupport.getGenerateProtobufTasks(mock(GradleBuild.class), Arrays.asList(project), new NullProgressMonitor());
+		assertArrayEquals(new String[] { "generateProto", "generateTestProto" }, tasks);
+	}
+
+	private int getNotificationCount() {
+		List<Object> notifications = this.clientRequests.get("sendActionableNotification");
+		return notifications == null ? 0 : notifications.size();
+	}
+
+	private static File getProtobufOutputDirectory(IProject project) throws Exception {
+		for (IClasspathEntry entry : JavaCore.create(project).getRawClasspath()) {
+			for (IClasspathAttribute attribute : entry.getExtraAttributes()) {
+				if (ProtobufSupport.PROTOBUF_GENERATED_SOURCE.equals(attribute.getName()) && "true".equals(attribute.getValue())) {
+					File outputDir = project.getFile(entry.getPath().removeFirstSegments(1)).getLocation().toFile();
+					outputDir.mkdirs();
+					return outputDir;
+				}
+			}
+		}
+		throw new AssertionError("No protobuf output directory in " + project.getName());
+	}
 }
@@ -28,6 +28,7 @@ import java.util.stream.Stream;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IImportDeclaration;
 import org.eclipse.jdt.core.IJavaProject;
@@ -96,6 +97,65 @@ public class AdvancedOrganizeImportsHandlerTest extends AbstractSourceTestCase {
 		compareSource(expected, unit.getSource());
 	}
 
+	@Test
+	public void testRankCandidatesByImportCount() throws Exception {
+		//@formatter:off
+		IPackageFragment package1 = fRoot.createPackageFragment("p1", true, null);
+		package1.createCompilationUnit("C.java", "package p1;\r\n" +
+				"\r\n" +
+				"public class C {\r\n" +
+				"}"
+				, true, null);
+		IPackageFragment package2 = fRoot.createPackageFragment("p2", true, null);
+		package2.createCompilationUnit("C.java", "package p2;\r\n" +
+				"\r\n" +
+				"public class C {\r\n" +
+				"}"
+				, true, null);
+		fPackageP.createCompilationUnit("A.java", "package p;\r\n" +
+				"\r\n" +
+				"import p2.C;\r\n" +
+				"\r\n" +
+				"public class A {\r\n" +
+				"	C c;\r\n" +
+				"}"
+				, true, null);
+		ICompilationUnit unit = fPackageP.createCompilationUnit("B.java", "package p;\r\n" +
+				"\r\n" +
+				"public class B {\r\n" +
+				"	C c;\r\n" +
+				"}"
+				, true, null);
+		//@formatter:on
+
+		// the imports are counted in the background
+		ImportedTypesIndex.instance().getImportCount(unit.getJavaProject(), "p2.C");
+		Job.getJobManager().join(ImportedTypesIndex.IMPORTED_TYPES_JOBS, null);
+		assertEquals(1, ImportedTypesIndex.instance().getImportCount(unit.getJavaProject(), "p2.C"));
+
+		TextEdit edit = OrganizeImportsHandler.organizeImports(unit, (selections) -> {
+			assertEquals(1, selections.length);
+			ImportSelection selection = selections[0];
+			assertEquals(2, selection.candidates.length);
+			assertEquals("p2.C", selection.candidates[0].fullyQualifiedName);
+			assertEquals("p1.C", selection.candidates[1].fullyQualifiedName);
+			return new ImportCandidate[] { selection.candidates[0] };
+		});
+		assertNotNull(edit);
+		JavaModelUtil.applyEdit(unit, edit, true, null);
+
+		/* @formatter:off */
+		String expected = "package p;\r\n" +
+				"\r\n" +
+				"import p2.C;\r\n" +
+				"\r\n" +
+				"public class B {\r\n" +
+				"	C c;\r\n" +
+				"}";
+		//@formatter:on
+		compareSource(expected, unit.getSource());
+	}
+
 	@Test
 	public void testStaticImports() throws ValidateEditException, CoreException, IOException {
 		String[] favourites = JavaLanguageServerPlugin.getPreferencesManager().getPreferences().getJavaCompletionFavoriteMembers();
@@ -22,6 +22,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.jdt.ls.core.internal.BuildWorkspaceStatus;
@@ -74,6 +75,45 @@ public class BuildWorkspaceHandlerTest extends AbstractProjectsManagerBasedTest
 		}
 	}
 
+	@Test
+	public void testFixedErrorCase() throws Exception {
+		//@formatter:off
+		String codeWithError = "package foo;\n" +
+				"	public class Bar {\n" +
+				"	public static void main(String[] args){\n"+
+				"		int ss = 1;;\n"+
+				"	}\n"+
+				"}";
+		String fixedCode = "package foo;\n" +
+				"	public class Bar {\n" +
+				"	public static void main(String[] args){\n"+
+				"		int ss = 1;\n"+
+				"	}\n"+
+				"}";
+		//@formatter:on
+		IFile file = project.getFile("src/main/java/foo/Bar.java");
+		try (InputStream stream = new ByteArrayInputStream(codeWithError.getBytes(StandardCharsets.UTF_8))) {
+			file.setContents(stream, true, false, monitor);
+		}
+		assertEquals(BuildWorkspaceStatus.WITH_ERROR, handler.buildWorkspace(false, monitor));
+		try (InputStream stream = new ByteArrayInputStream(fixedCode.getBytes(StandardCharsets.UTF_8))) {
+			file.setContents(stream, true, false, monitor);
+		}
+		assertEquals(BuildWorkspaceStatus.SUCCEED, handler.buildWorkspace(false, monitor));
+	}
+
+	@Test
+	public void testChangedMarkerSeverity() throws Exception {
+		ProjectBuildParams params = new ProjectBuildParams(List.of(new TextDocumentIdentifier(project.getLocationURI().toString())), false);
+		IMarker marker = project.getFile("pom.xml").createMarker(IMarker.PROBLEM);
+		marker.setAttribute(IMarker.SEVERITY, IMarker.SEVERITY_WARNING);
+		assertEquals(BuildWorkspaceStatus.SUCCEED, handler.buildProjects(params, monitor));
+		marker.setAttribute(IMarker.SEVERITY, IMarker.SEVERITY_ERROR);
+		assertEquals(BuildWorkspaceStatus.WITH_ERROR, handler.buildProjects(params, monitor));
+		marker.setAttribute(IMarker.SEVERITY, IMarker.SEVERITY_WARNING);
+		assertEquals(BuildWorkspaceStatus.SUCCEED, handler.buildProjects(params, monitor));
+	}
+
 	@Test
 	public void testCanceledCase() throws Exception {
 		monitor.setCanceled(true);
@@ -21,9 +21,13 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
 
+import org.eclipse.core.resources.IFile;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.ls.core.internal.ClassFileUtil;
@@ -123,6 +127,37 @@ public class CallHierarchyHandlerTest extends AbstractProjectsManagerBasedTest {
 		assertEquals(new Range(new Position(10, 18), new Position(10, 30)), selectionRange);
 	}
 
+	@Test
+	public void incomingCalls_afterCallRemoved() throws Exception {
+		// Line 9 from `org.sample.Foo`
+		//    public void <|>someMethod() {}
+		String uri = getUriFromSrcProject("org.sample.Foo");
+		List<CallHierarchyItem> items = prepareCallHierarchy(uri, 8, 13);
+		assertNotNull(items);
+		assertEquals(1, items.size());
+		assertEquals(4, getIncomingCalls(items.get(0)).size());
+
+		//@formatter:off
+		String callWithoutSecondCall = "package org.sample;\n" +
+				"\n" +
+				"public class Call {\n" +
+				"    public static void main(String[] args) {\n" +
+				"        new Foo().someMethod();\n" +
+				"    }\n" +
+				"}\n";
+		//@formatter:on
+		IFile file = WorkspaceHelper.getProject("hello").getFile("src/org/sample/Call.java");
+		try (InputStream stream = new ByteArrayInputStream(callWithoutSecondCall.getBytes(StandardCharsets.UTF_8))) {
+			file.setContents(stream, true, false, new NullProgressMonitor());
+		}
+		waitForBackgroundJobs();
+
+		List<CallHierarchyIncomingCall> calls = getIncomingCalls(items.get(0));
+		assertNotNull(calls);
+		assertEquals(3, calls.size());
+		assertItem(calls.get(2).getFrom(), "main(String[]) : void", Method, "org.sample.Call", false, 4);
+	}
+
 	@Test
 	public void outgoingCalls_src() throws Exception {
 		// Line 34 from `CallHierarchy`
@@ -102,6 +102,15 @@ public class DocumentHighlightHandlerTest extends AbstractProjectsManagerBasedTe
 		assertHighlight(it.next(), 25, 9, 12, DocumentHighlightKind.Read);
 	}
 
+	@Test
+	public void testDocumentHighlight_OccurrencesFromAnotherOccurrence() throws JavaModelException {
+		List<DocumentHighlight> expected = requestHighlights("org.sample.Highlight", 6, 18);
+		List<DocumentHighlight> result = requestHighlights("org.sample.Highlight", 24, 23);
+		assertEquals(expected, result);
+		result = requestHighlights("org.sample.Highlight", 12, 3);
+		assertEquals(expected, result);
+	}
+
 	private List<DocumentHighlight> requestHighlights(String compilationUnit, int line, int character) throws JavaModelException {
 		String uri = ClassFileUtil.getURI(project, compilationUnit);
 		TextDocumentIdentifier identifier = new TextDocumentIdentifier(uri);
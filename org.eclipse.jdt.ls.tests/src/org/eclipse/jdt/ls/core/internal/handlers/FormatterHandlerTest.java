@@ -13,11 +13,13 @@
 package org.eclipse.jdt.ls.core.internal.handlers;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
 import java.io.File;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -28,13 +30,16 @@ import org.eclipse.core.runtime.URIUtil;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.formatter.CodeFormatter;
 import org.eclipse.jdt.core.formatter.DefaultCodeFormatterConstants;
+import org.eclipse.jdt.core.manipulation.CoreASTProvider;
 import org.eclipse.jdt.internal.ui.preferences.formatter.ProfileVersionerCore;
 import org.eclipse.jdt.ls.core.internal.JDTUtils;
 import org.eclipse.jdt.ls.core.internal.JavaLanguageServerTestPlugin;
 import org.eclipse.jdt.ls.core.internal.ResourceUtils;
 import org.eclipse.jdt.ls.core.internal.TextEditUtil;
 import org.eclipse.jdt.ls.core.internal.managers.StandardProjectsManager;
+import org.eclipse.jface.text.IRegion;
 import org.eclipse.lsp4j.DocumentFormattingParams;
 import org.eclipse.lsp4j.DocumentOnTypeFormattingParams;
 import org.eclipse.lsp4j.DocumentRangeFormattingParams;
@@ -500,6 +505,79 @@ public class FormatterHandlerTest extends AbstractCompilationUnitBasedTest {
 		assertEquals(expectedText, newText);
 	}
 
+	@Test // typing ; in a class with several members should only format the current line
+	public void testFormattingOnTypeSemiColumnWithOtherMembers() throws Exception {
+		ICompilationUnit unit = getWorkingCopy("src/org/sample/Baz.java",
+		//@formatter:off
+			  "package org.sample;\n"
+			+ "\n"
+			+ "public class Baz {\n"
+			+ "\tvoid foo() {\n"
+			+ "\t\tint   a =  1  ;\n"
+			+ "\t}\n"
+			+ "\tvoid bar() {\n"
+			+ "int   b =  2  \n"
+			+ "\t}\n"
+			+ "\tvoid baz() {\n"
+			+ "\t\tint   c =  3  ;\n"
+			+ "\t}\n"
+			+ "\tvoid qux() {\n"
+			+ "\t\tint   d =  4  ;\n"
+			+ "\t}\n"
+			+ "}\n"
+		//@formatter:on
+		);
+		// the shared AST lags behind the typed ;
+		CoreASTProvider.getInstance().setActiveJavaElement(unit);
+		assertNotNull(CoreASTProvider.getInstance().getAST(unit, CoreASTProvider.WAIT_YES, monitor));
+		unit.getBuffer().replace(unit.getSource().indexOf("2  \n") + 3, 0, ";");
+
+		String uri = JDTUtils.toURI(unit);
+		TextDocumentIdentifier textDocument = new TextDocumentIdentifier(uri);
+		FormattingOptions options = new FormattingOptions(4, false);// ident == tab
+
+		DocumentOnTypeFormattingParams params = new DocumentOnTypeFormattingParams(textDocument, options, new Position(7, 15), ";");
+
+		preferences.setJavaFormatOnTypeEnabled(true);
+		List<String> formattedSources = new ArrayList<>();
+		FormatterHandler handler = new FormatterHandler(preferenceManager) {
+			@Override
+			protected org.eclipse.text.edits.TextEdit format(CodeFormatter formatter, int kind, String source, IRegion region, String lineDelimiter) {
+				formattedSources.add(source);
+				return super.format(formatter, kind, source, region, lineDelimiter);
+			}
+		};
+		List<? extends TextEdit> edits = handler.onTypeFormatting(params, monitor);
+		assertNotNull(edits);
+		// the body of qux is not formatted
+		assertEquals(1, formattedSources.size());
+		assertFalse(formattedSources.get(0).contains("int   d"));
+		assertTrue(formattedSources.get(0).contains("int   b =  2  ;"));
+
+		//@formatter:off
+		String expectedText =
+			  "package org.sample;\n"
+			+ "\n"
+			+ "public class Baz {\n"
+			+ "\tvoid foo() {\n"
+			+ "\t\tint   a =  1  ;\n"
+			+ "\t}\n"
+			+ "\tvoid bar() {\n"
+			+ "\t\tint b = 2;\n"
+			+ "\t}\n"
+			+ "\tvoid baz() {\n"
+			+ "\t\tint   c =  3  ;\n"
+			+ "\t}\n"
+			+ "\tvoid qux() {\n"
+			+ "\t\tint   d =  4  ;\n"
+			+ "\t}\n"
+			+ "}\n";
+		//@formatter:on
+
+		String newText = TextEditUtil.apply(unit, edits);
+		assertEquals(expectedText, newText);
+	}
+
 	@Test // typing new_line should format the current line if previous character doesn't close a block
 	public void testFormattingOnTypeNewLine() throws Exception {
 		ICompilationUnit unit = getWorkingCopy("src/org/sample/Baz.java",
@@ -270,6 +270,35 @@ public class HoverHandlerTest extends AbstractProjectsManagerBasedTest {
 		assertEquals("void test1.E.foo2(String s, String s2)", getTitleHover(cu, 4, 24));
 	}
 
+	@Test
+	public void testHoverPlainJavadoc() throws Exception {
+		IPackageFragment pack1 = sourceFolder.createPackageFragment("test1", false, null);
+		StringBuilder buf = new StringBuilder();
+		buf.append("package test1;\n");
+		buf.append("public class E {\n");
+		buf.append("   /** The {@code count} of\n");
+		buf.append("    * items. */\n");
+		buf.append("   public int count;\n");
+		buf.append("   /** Resets the {@literal count}.\n");
+		buf.append("    * @param value the new {@code count}\n");
+		buf.append("    * @return the previous count */\n");
+		buf.append("   public static int reset(int value) { return 0; }\n");
+		buf.append("   /** Resets the {@literal count}, see {@link #count}. */\n");
+		buf.append("   public static void clear() { }\n");
+		buf.append("}\n");
+		ICompilationUnit cu = pack1.createCompilationUnit("E.java", buf.toString(), false, null);
+
+		Hover hover = getHover(cu, 4, 15);
+		assertNotNull(hover);
+		assertEquals("The `count` of items.", hover.getContents().getLeft().get(1).getLeft());
+		hover = getHover(cu, 8, 23);
+		assertNotNull(hover);
+		assertEquals("Resets the count.\n\n *  **Parameters:**\n    \n     *  **value** the new `count`\n *  **Returns:**\n    \n     *  the previous count", ResourceUtils.dos2Unix(hover.getContents().getLeft().get(1).getLeft()));
+		hover = getHover(cu, 10, 24);
+		assertNotNull(hover);
+		assertMatches("Resets the count, see \\[count\\]\\(file:/.*/E.java#5\\)\\.", hover.getContents().getLeft().get(1).getLeft());
+	}
+
 	@Test
 	public void testHoverTypeParameters() throws Exception {
 		IPackageFragment pack1 = sourceFolder.createPackageFragment("test1", false, null);
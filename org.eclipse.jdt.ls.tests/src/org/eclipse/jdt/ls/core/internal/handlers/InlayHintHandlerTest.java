@@ -75,6 +75,29 @@ public class InlayHintHandlerTest extends AbstractCompilationUnitBasedTest {
 		assertTrue(inlayHints.isEmpty());
 	}
 
+	@Test
+	public void testPartiallyInRange() throws JavaModelException {
+		preferences.setInlayHintsParameterMode(InlayHintsParameterMode.LITERALS);
+		ICompilationUnit unit = getWorkingCopy(
+			"src/Foo.java",
+			"public class Foo {\n" +
+			"	void foo(int i) {}\n" +
+			"	void bar() {\n" +
+			"		foo(123);\n" +
+			"		foo(456);\n" +
+			"	}\n"+
+			"}\n"
+		);
+		InlayHintsHandler handler = new InlayHintsHandler(preferenceManager);
+		InlayHintParams params = new InlayHintParams();
+		params.setTextDocument(new TextDocumentIdentifier(unit.getResource().getLocationURI().toString()));
+		params.setRange(new Range(new Position(4, 0), new Position(5, 0)));
+		List<InlayHint> inlayHints = handler.inlayHint(params, new NullProgressMonitor());
+		assertEquals(1, inlayHints.size());
+		assertEquals("i:", inlayHints.get(0).getLabel().getLeft());
+		assertEquals(new Position(4, 6), inlayHints.get(0).getPosition());
+	}
+
 	@Test
 	public void testBooleanLiteral() throws JavaModelException {
 		preferences.setInlayHintsParameterMode(InlayHintsParameterMode.LITERALS);
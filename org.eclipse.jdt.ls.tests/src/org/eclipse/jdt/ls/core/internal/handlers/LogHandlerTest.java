@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal.handlers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.jdt.ls.core.internal.JavaClientConnection;
+import org.eclipse.jdt.ls.core.internal.managers.TelemetryEvent;
+import org.eclipse.lsp4j.MessageType;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentMatcher;
+
+import com.google.gson.JsonObject;
+
+/**
+ * Tests the messages the {@link LogHandler} sends to the client.
+ *
+ * The messages are logged before the client connects, so that they are all
+ * queued and sent in order once it does. The entries of the workspace log
+ * replayed on connection are sent after them.
+ */
+public class LogHandlerTest {
+
+	private static final String PLUGIN_ID = "org.eclipse.jdt.ls.tests.log";
+
+	private static final Pattern DROPPED_MESSAGES = Pattern.compile(".* (\\d+) log messages were dropped");
+
+	private LogHandler handler;
+
+	private JavaClientConnection connection;
+
+	@Before
+	public void setup() {
+		handler = new LogHandler(status -> PLUGIN_ID.equals(status.getPlugin()));
+		connection = mock(JavaClientConnection.class);
+	}
+
+	@After
+	public void cleanUp() {
+		handler.uninstall();
+	}
+
+	@Test
+	public void testBatchMessagesOfSameType() {
+		log(IStatus.WARNING, "first warning");
+		log(IStatus.WARNING, "second warning");
+		log(IStatus.ERROR, "an error");
+		log(IStatus.WARNING, "third warning");
+		handler.setClientConnection(connection);
+
+		verify(connection, timeout(5000)).logMessage(eq(MessageType.Warning), argThat(text -> text.contains("first warning\n") && text.contains("second warning") && !text.contains("third warning")));
+		verify(connection, timeout(5000)).logMessage(eq(MessageType.Error), argThat(text -> text.endsWith(" an error") && !text.contains("warning")));
+		verify(connection, timeout(5000)).logMessage(eq(MessageType.Warning), argThat(text -> text.contains("third warning") && !text.contains("first warning")));
+	}
+
+	@Test
+	public void testRepeatedMessages() {
+		log(IStatus.WARNING, "repeated warning");
+		log(IStatus.WARNING, "repeated warning");
+		log(IStatus.WARNING, "repeated warning");
+		log(IStatus.WARNING, "single warning");
+		log(IStatus.WARNING, "single warning");
+		log(IStatus.WARNING, "last warning");
+		handler.setClientConnection(connection);
+
+		verify(connection, timeout(5000)).logMessage(eq(MessageType.Warning), argThat(text -> text.contains(" repeated warning (repeated 2 times)\n") && text.contains(" single warning (repeated 1 time)\n") && text.indexOf("repeated warning") == text.lastIndexOf("repeated warning")));
+	}
+
+	@Test
+	public void testReportDroppedMessages() {
+		// the queue holds 10000 messages
+		for (int i = 0; i < 10005; i++) {
+			log(IStatus.WARNING, "warning " + i);
+		}
+		handler.setClientConnection(connection);
+
+		verify(connection, timeout(5000)).logMessage(eq(MessageType.Warning), argThat(text -> text.contains(" warning 9999") && !text.contains(" warning 10000")));
+		// the entries replayed from the workspace log may be dropped as well
+		verify(connection, timeout(5000)).logMessage(eq(MessageType.Warning), argThat(text -> {
+			Matcher matcher = DROPPED_MESSAGES.matcher(text);
+			return matcher.matches() && Integer.parseInt(matcher.group(1)) >= 5;
+		}));
+	}
+
+	@Test
+	public void testSingleSender() throws Exception {
+		Set<Thread> senders = getSenders();
+		handler.setClientConnection(connection);
+		handler.setClientConnection(connection);
+		Set<Thread> started = getSenders();
+		started.removeAll(senders);
+		assertEquals(1, started.size());
+
+		handler.uninstall();
+		Thread sender = started.iterator().next();
+		sender.join(5000);
+		assertFalse(sender.isAlive());
+	}
+
+	@Test
+	public void testSendErrorTelemetryOnce() {
+		log(IStatus.ERROR, "first error");
+		log(IStatus.WARNING, "a warning");
+		log(IStatus.ERROR, "first error");
+		log(IStatus.ERROR, "second error");
+		log(IStatus.WARNING, "last warning");
+		handler.setClientConnection(connection);
+
+		// the telemetry of the errors is sent before the batch of the last warning
+		verify(connection, timeout(5000)).logMessage(eq(MessageType.Warning), argThat(text -> text.contains("last warning")));
+		verify(connection, times(1)).telemetryEvent(argThat(isErrorEvent("first error")));
+		verify(connection, times(1)).telemetryEvent(argThat(isErrorEvent("second error")));
+	}
+
+	private static Set<Thread> getSenders() {
+		return Thread.getAllStackTraces().keySet().stream().filter(thread -> "Log Sender".equals(thread.getName())).collect(Collectors.toSet());
+	}
+
+	private void log(int severity, String message) {
+		handler.log(new Status(severity, PLUGIN_ID, message));
+	}
+
+	private static ArgumentMatcher<Object> isErrorEvent(String message) {
+		return event -> event instanceof TelemetryEvent telemetryEvent && telemetryEvent.getProperties() instanceof JsonObject properties && message.equals(properties.get("message").getAsString());
+	}
+}
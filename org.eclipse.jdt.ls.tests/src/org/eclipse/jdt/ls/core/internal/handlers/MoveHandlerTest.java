@@ -82,6 +82,32 @@ public class MoveHandlerTest extends AbstractProjectsManagerBasedTest {
 		assertTrue(((PackageNode) response.destinations[2]).isParentOfSelectedFile);
 	}
 
+	@Test
+	public void testGetPackageDestinationsAfterPackageAdded() throws JavaModelException, BadLocationException {
+		IPackageFragment pack1 = sourceFolder.createPackageFragment("jdtls.test1", false, null);
+		//@formatter:off
+		ICompilationUnit unit = pack1.createCompilationUnit("A.java", "package jdtls.test1;\r\n" +
+				"\r\n" +
+				"public class A {\r\n" +
+				"}", true, null);
+		//@formatter:on
+		String[] uris = new String[] { JDTUtils.toURI(unit) };
+		MoveDestinationsResponse response = MoveHandler.getPackageDestinations(uris);
+		assertEquals(3, response.destinations.length);
+
+		IPackageFragment pack2 = sourceFolder.createPackageFragment("jdtls.test2", false, null);
+		response = MoveHandler.getPackageDestinations(uris, "jdtls.test");
+		assertEquals(2, response.destinations.length);
+		assertEquals("jdtls.test1", ((PackageNode) response.destinations[0]).displayName);
+		assertTrue(((PackageNode) response.destinations[0]).isParentOfSelectedFile);
+		assertEquals("jdtls.test2", ((PackageNode) response.destinations[1]).displayName);
+
+		pack2.delete(true, null);
+		response = MoveHandler.getPackageDestinations(uris, "jdtls.test");
+		assertEquals(1, response.destinations.length);
+		assertEquals("jdtls.test1", ((PackageNode) response.destinations[0]).displayName);
+	}
+
 	@Test
 	public void testGetInstanceMethodDestinations() throws Exception {
 		when(preferenceManager.getClientPreferences().isMoveRefactoringSupported()).thenReturn(true);
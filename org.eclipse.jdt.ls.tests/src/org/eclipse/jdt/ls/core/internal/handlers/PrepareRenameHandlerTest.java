@@ -13,12 +13,15 @@
 
 package org.eclipse.jdt.ls.core.internal.handlers;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IPackageFragment;
 import org.eclipse.jdt.core.IPackageFragmentRoot;
@@ -412,6 +415,35 @@ public class PrepareRenameHandlerTest extends AbstractProjectsManagerBasedTest {
 		return pos;
 	}
 
+	@Test
+	public void testPreparedElementIsReused() throws JavaModelException, BadLocationException {
+		IPackageFragment pack1 = sourceFolder.createPackageFragment("test1", false, null);
+
+		String[] codes = {
+				"package test1;\n",
+				"public class E {\n",
+				"	private int myValue = 2;\n",
+				"   public void bar() {\n",
+				"		myValue|* = 3;\n",
+				"   }\n",
+				"}\n"
+		};
+		StringBuilder builder = new StringBuilder();
+		Position pos = mergeCode(builder, codes);
+		ICompilationUnit cu = pack1.createCompilationUnit("E.java", builder.toString(), false, null);
+		String uri = JDTUtils.toURI(cu);
+
+		prepareRename(cu, pos, "newname");
+		IJavaElement element = SpeculativeRenameSearch.instance().getElement(uri, pos.getLine(), pos.getCharacter());
+		assertEquals(cu.getType("E").getField("myValue"), element);
+		// only reused once
+		assertNull(SpeculativeRenameSearch.instance().getElement(uri, pos.getLine(), pos.getCharacter()));
+
+		prepareRename(cu, pos, "newname");
+		pack1.createCompilationUnit("F.java", "package test1;\npublic class F {}\n", false, null);
+		assertNull(SpeculativeRenameSearch.instance().getElement(uri, pos.getLine(), pos.getCharacter()));
+	}
+
 	private Either<Range, PrepareRenameResult> prepareRename(ICompilationUnit cu, Position pos, String newName) {
 		TextDocumentIdentifier identifier = new TextDocumentIdentifier(JDTUtils.toURI(cu));
 
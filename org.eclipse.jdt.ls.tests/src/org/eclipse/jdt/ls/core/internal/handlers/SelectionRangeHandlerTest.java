@@ -12,6 +12,7 @@
  *******************************************************************************/
 package org.eclipse.jdt.ls.core.internal.handlers;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 import java.util.Arrays;
@@ -111,6 +112,26 @@ public class SelectionRangeHandlerTest extends AbstractProjectsManagerBasedTest
 				TYPE_DECL_RANGE, COMP_UNIT_RAGE));
 	}
 
+	@Test
+	public void testMultiplePositions() throws CoreException {
+		SelectionRangeParams params = new SelectionRangeParams();
+		params.setPositions(List.of(new Position(12, 30), new Position(14, 17), new Position(12, 30)));
+		params.setTextDocument(new TextDocumentIdentifier(ClassFileUtil.getURI(project, "org.sample.Foo4")));
+		List<SelectionRange> ranges = new SelectionRangeHandler().selectionRange(params, monitor);
+		assertEquals(3, ranges.size());
+		assertTrue(validateSelectionRange(ranges.get(0), new Range(new Position(12, 21), new Position(12, 40)), // string literal
+				new Range(new Position(12, 2), new Position(12, 41)), // method invocation
+				new Range(new Position(12, 2), new Position(12, 42)), // expression statement
+				new Range(new Position(11, 8), new Position(16, 2)), // block
+				new Range(new Position(8, 1), new Position(16, 2)), // method declaration
+				TYPE_DECL_RANGE, COMP_UNIT_RAGE));
+		assertTrue(validateSelectionRange(ranges.get(1), new Range(new Position(14, 2), new Position(14, 29)), // block comment
+				new Range(new Position(11, 8), new Position(16, 2)), // block
+				new Range(new Position(8, 1), new Position(16, 2)), // method declaration
+				TYPE_DECL_RANGE, COMP_UNIT_RAGE));
+		assertEquals(ranges.get(0), ranges.get(2));
+	}
+
 	private SelectionRange getSelectionRange(String className, Position position) throws CoreException {
 		SelectionRangeParams params = new SelectionRangeParams();
 		params.setPositions(List.of(position));
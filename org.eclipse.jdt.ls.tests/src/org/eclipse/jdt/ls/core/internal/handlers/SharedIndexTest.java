@@ -13,19 +13,24 @@
 
 package org.eclipse.jdt.ls.core.internal.handlers;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 import java.io.File;
 import java.lang.reflect.Field;
 import java.net.URI;
 import java.net.URL;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 
 import org.eclipse.jdt.core.IClasspathEntry;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.internal.core.ClasspathEntry;
+import org.eclipse.jdt.internal.core.JavaModelManager;
 import org.eclipse.jdt.internal.core.JavaProject;
+import org.eclipse.jdt.ls.core.internal.JobHelpers;
 import org.eclipse.jdt.ls.core.internal.managers.AbstractProjectsManagerBasedTest;
 import org.junit.Test;
 
@@ -64,4 +69,27 @@ public class SharedIndexTest extends AbstractProjectsManagerBasedTest {
 			SHARED_INDEX_LOCATION.set(ClasspathEntry.class, null);
 		}
 	}
+
+	@Test
+	public void testVerifyLibraryIndexes() throws Exception {
+		IJavaProject javaProject = newEmptyProject();
+		JobHelpers.waitUntilIndexesReady();
+		IJavaProject[] javaProjects = new IJavaProject[] { javaProject };
+		// records the checksums of the healthy indexes
+		IndexUtils.verifyLibraryIndexes(javaProjects, null);
+		assertEquals(0, IndexUtils.verifyLibraryIndexes(javaProjects, null));
+
+		IClasspathEntry library = null;
+		for (IClasspathEntry entry : ((JavaProject) javaProject).getResolvedClasspath()) {
+			if (entry.getEntryKind() == IClasspathEntry.CPE_LIBRARY) {
+				library = entry;
+				break;
+			}
+		}
+		File indexFile = JavaModelManager.getIndexManager().computeIndexLocation(library.getPath()).getIndexFile();
+		assertTrue("library index should exist", indexFile.exists());
+		Files.write(indexFile.toPath(), new byte[] { 0 }, StandardOpenOption.APPEND);
+		assertEquals(1, IndexUtils.verifyLibraryIndexes(javaProjects, null));
+		JobHelpers.waitUntilIndexesReady();
+	}
 }
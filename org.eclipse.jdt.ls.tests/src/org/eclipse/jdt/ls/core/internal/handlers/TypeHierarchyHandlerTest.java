@@ -14,9 +14,12 @@ package org.eclipse.jdt.ls.core.internal.handlers;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
+import java.io.ByteArrayInputStream;
 import java.util.List;
 
+import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.NullProgressMonitor;
@@ -39,6 +42,8 @@ public class TypeHierarchyHandlerTest extends AbstractInvisibleProjectBasedTest
 
 	@Before
 	public void setup() throws Exception {
+		// the hierarchies cached by the previous tests are for other projects
+		TypeHierarchyCache.instance().clear();
 		importProjects("maven/salut");
 		fJProject = WorkspaceHelper.getProject("salut");
 		fHandler = new TypeHierarchyHandler();
@@ -88,6 +93,35 @@ public class TypeHierarchyHandlerTest extends AbstractInvisibleProjectBasedTest
 		assertEquals(9, subtypesItems.size());
 	}
 
+	@Test
+	public void testSubTypeHierarchyAfterChange() throws Exception {
+		IProgressMonitor monitor = new NullProgressMonitor();
+		TypeHierarchyPrepareParams params = new TypeHierarchyPrepareParams();
+		String uriString = fJProject.getFile("src/main/java/org/sample/CallHierarchy.java").getLocationURI().toString();
+		params.setTextDocument(new TextDocumentIdentifier(uriString));
+		params.setPosition(new Position(2, 43));
+		List<TypeHierarchyItem> items = fHandler.prepareTypeHierarchy(params, monitor);
+		assertEquals(1, items.size());
+		TypeHierarchySubtypesParams subtypesParams = new TypeHierarchySubtypesParams();
+		subtypesParams.setItem(items.get(0));
+		assertEquals(9, fHandler.getSubtypeItems(subtypesParams, monitor).size());
+
+		IFile file = fJProject.getFile("src/main/java/org/sample/BarBuilder.java");
+		String content = """
+				package org.sample;
+				import org.apache.commons.lang3.builder.Builder;
+				public class BarBuilder implements Builder<Object> {
+					public Object build() {
+						return null;
+					}
+				}
+				""";
+		file.create(new ByteArrayInputStream(content.getBytes()), true, monitor);
+		List<TypeHierarchyItem> subtypesItems = fHandler.getSubtypeItems(subtypesParams, monitor);
+		assertEquals(10, subtypesItems.size());
+		assertTrue(subtypesItems.stream().anyMatch(item -> "BarBuilder".equals(item.getName())));
+	}
+
 	// https://github.com/redhat-developer/vscode-java/issues/2871
 	@Test
 	public void testMultipleProjects() throws Exception {
@@ -16,16 +16,30 @@ package org.eclipse.jdt.ls.core.internal.handlers;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import java.io.File;
+import java.net.URI;
 import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.commons.io.FileUtils;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IFolder;
 import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaProject;
@@ -36,8 +50,12 @@ import org.eclipse.jdt.core.manipulation.CoreASTProvider;
 import org.eclipse.jdt.ls.core.internal.JDTUtils;
 import org.eclipse.jdt.ls.core.internal.JavaClientConnection;
 import org.eclipse.jdt.ls.core.internal.ProjectUtils;
+import org.eclipse.jdt.ls.core.internal.ResourceUtils;
 import org.eclipse.jdt.ls.core.internal.managers.AbstractProjectsManagerBasedTest;
+import org.eclipse.jdt.ls.core.internal.managers.ProjectsManager.CHANGE_TYPE;
+import org.eclipse.jdt.ls.core.internal.managers.StandardProjectsManager;
 import org.eclipse.jdt.ls.core.internal.preferences.ClientPreferences;
+import org.eclipse.jdt.ls.core.internal.preferences.Preferences.FeatureStatus;
 import org.eclipse.lsp4j.DidOpenTextDocumentParams;
 import org.eclipse.lsp4j.FileChangeType;
 import org.eclipse.lsp4j.FileEvent;
@@ -158,6 +176,75 @@ public class WorkspaceEventHandlerTest extends AbstractProjectsManagerBasedTest
 		assertEquals(0L, diags.get(6).getDiagnostics().size());
 	}
 
+	@Test
+	public void testHandleFileEventsOncePerProject() throws Exception {
+		importProjects("maven/salut");
+		IProject project = ProjectUtils.getProject("salut");
+		StandardProjectsManager pm = spy(projectsManager);
+		doReturn(null).when(pm).updateProject(any(), anyBoolean());
+		FeatureStatus status = preferenceManager.getPreferences().getUpdateBuildConfigurationStatus();
+		AtomicInteger batches = new AtomicInteger();
+		IResourceChangeListener listener = event -> {
+			for (int i = 0; i < 20; i++) {
+				if (event.getDelta() != null && event.getDelta().findMember(project.getFile("src/main/java/org/sample/Batch" + i + ".java").getFullPath()) != null) {
+					batches.incrementAndGet();
+					return;
+				}
+			}
+		};
+		try {
+			preferenceManager.getPreferences().setUpdateBuildConfigurationStatus(FeatureStatus.automatic);
+			List<FileEvent> events = new ArrayList<>();
+			File folder = project.getFolder("src/main/java/org/sample").getLocation().toFile();
+			for (int i = 0; i < 20; i++) {
+				File file = new File(folder, "Batch" + i + ".java");
+				Files.writeString(file.toPath(), "package org.sample;\npublic class Batch" + i + " {}\n");
+				events.add(new FileEvent(file.toURI().toString(), FileChangeType.Created));
+			}
+			URI pomUri = project.getFile("pom.xml").getRawLocationURI();
+			ResourceUtils.setContent(pomUri, ResourceUtils.getContent(pomUri) + "\n");
+			events.add(new FileEvent(pomUri.toString(), FileChangeType.Changed));
+			events.add(new FileEvent(pomUri.toString(), FileChangeType.Changed));
+			ResourcesPlugin.getWorkspace().addResourceChangeListener(listener, IResourceChangeEvent.POST_CHANGE);
+
+			new WorkspaceEventsHandler(pm, javaClient, lifeCycleHandler).handleFileEvents(events.toArray(FileEvent[]::new));
+
+			// all the files are refreshed in a single workspace operation
+			assertEquals(1, batches.get());
+			for (int i = 0; i < 20; i++) {
+				assertTrue(project.getFile("src/main/java/org/sample/Batch" + i + ".java").exists());
+			}
+			verify(pm, never()).fileChanged(anyString(), any());
+			verify(pm, times(1)).filesChanged(Map.of(pomUri.toString(), CHANGE_TYPE.CHANGED));
+			verify(pm, times(1)).updateProject(project, true);
+		} finally {
+			ResourcesPlugin.getWorkspace().removeResourceChangeListener(listener);
+			preferenceManager.getPreferences().setUpdateBuildConfigurationStatus(status);
+		}
+	}
+
+	@Test
+	public void testCoalesceFileEvents() throws Exception {
+		//@formatter:off
+		Map<String, CHANGE_TYPE> changes = WorkspaceEventsHandler.coalesceFileEvents(List.of(
+			new FileEvent("file:///a/Foo.java", FileChangeType.Created),
+			new FileEvent("file:///a/Bar.java", FileChangeType.Deleted),
+			new FileEvent("file:///a/Baz.java", FileChangeType.Created),
+			new FileEvent("file:///a/Foo.java", FileChangeType.Deleted),
+			new FileEvent("file:///a/Bar.java", FileChangeType.Created),
+			new FileEvent("file:///a/Baz.java", FileChangeType.Changed),
+			new FileEvent("file:///a/Qux.java", FileChangeType.Changed),
+			new FileEvent("file:///a/Qux.java", FileChangeType.Deleted)
+		));
+		//@formatter:on
+		assertEquals(3, changes.size());
+		assertFalse(changes.containsKey("file:///a/Foo.java"));
+		assertEquals(CHANGE_TYPE.CHANGED, changes.get("file:///a/Bar.java"));
+		assertEquals(CHANGE_TYPE.CREATED, changes.get("file:///a/Baz.java"));
+		assertEquals(CHANGE_TYPE.DELETED, changes.get("file:///a/Qux.java"));
+		assertEquals(List.of("file:///a/Bar.java", "file:///a/Baz.java", "file:///a/Qux.java"), List.copyOf(changes.keySet()));
+	}
+
 	private void assertEndsWith(String target, String suffix) {
 		if (target.endsWith("/")) {
 			target = target.substring(0, target.length() - 1);
@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal.javadoc;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the extraction of the Javadoc images from the pooled archives.
+ */
+public class ArchivePoolTest {
+
+	private static final byte[] IMAGE = "<svg/>".getBytes(StandardCharsets.UTF_8);
+
+	private Path folder;
+
+	@Before
+	public void setup() throws IOException {
+		folder = Files.createTempDirectory("archivePoolTest");
+	}
+
+	@After
+	public void cleanUp() throws IOException {
+		ArchivePool.instance().closeAll();
+		FileUtils.deleteDirectory(folder.toFile());
+	}
+
+	@Test
+	public void testExtract() throws Exception {
+		File archive = createArchive("javadoc.jar");
+		File output = folder.resolve("images/doc-files/image.svg").toFile();
+
+		assertTrue(ArchivePool.instance().extract(archive, "doc-files/image.svg", output));
+		assertArrayEquals(IMAGE, Files.readAllBytes(output.toPath()));
+
+		// the extracted image is only checked
+		assertTrue(ArchivePool.instance().extract(archive, "doc-files/image.svg", output));
+
+		// a deleted image is extracted again
+		Files.delete(output.toPath());
+		assertTrue(ArchivePool.instance().extract(archive, "doc-files/image.svg", output));
+		assertArrayEquals(IMAGE, Files.readAllBytes(output.toPath()));
+	}
+
+	@Test
+	public void testExtractMissingEntry() throws Exception {
+		File archive = createArchive("javadoc.jar");
+		File output = folder.resolve("images/doc-files/missing.svg").toFile();
+
+		assertFalse(ArchivePool.instance().extract(archive, "doc-files/missing.svg", output));
+		// answered from the index of the archive
+		assertFalse(ArchivePool.instance().extract(archive, "doc-files/missing.svg", output));
+		assertFalse(output.exists());
+		assertFalse(ArchivePool.instance().extract(folder.resolve("missing.jar").toFile(), "doc-files/image.svg", output));
+	}
+
+	@Test
+	public void testExtractAfterClose() throws Exception {
+		File archive = createArchive("javadoc.jar");
+		File output = folder.resolve("images/doc-files/image.svg").toFile();
+
+		assertTrue(ArchivePool.instance().extract(archive, "doc-files/image.svg", output));
+		ArchivePool.instance().closeAll();
+		Files.delete(output.toPath());
+
+		assertTrue(ArchivePool.instance().extract(archive, "doc-files/image.svg", output));
+		assertArrayEquals(IMAGE, Files.readAllBytes(output.toPath()));
+	}
+
+	private File createArchive(String name) throws IOException {
+		File archive = folder.resolve(name).toFile();
+		try (JarOutputStream out = new JarOutputStream(new FileOutputStream(archive))) {
+			out.putNextEntry(new JarEntry("doc-files/image.svg"));
+			out.write(IMAGE);
+			out.closeEntry();
+			out.putNextEntry(new JarEntry("foo/Bar.html"));
+			out.closeEntry();
+		}
+		return archive;
+	}
+}
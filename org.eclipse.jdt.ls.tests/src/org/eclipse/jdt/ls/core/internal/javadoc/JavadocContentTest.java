@@ -14,13 +14,18 @@ package org.eclipse.jdt.ls.core.internal.javadoc;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 
+import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IField;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.ls.core.internal.HoverInfoProvider;
+import org.eclipse.jdt.ls.core.internal.ResourceUtils;
 import org.eclipse.jdt.ls.core.internal.WorkspaceHelper;
 import org.eclipse.jdt.ls.core.internal.managers.AbstractProjectsManagerBasedTest;
 import org.eclipse.lsp4j.MarkedString;
@@ -83,4 +88,117 @@ public class JavadocContentTest extends AbstractProjectsManagerBasedTest {
 		MarkedString javadoc = HoverInfoProvider.computeJavadoc(method);
 		assertEquals("Foo method", javadoc.getValue());
 	}
+
+	@Test
+	public void testMarkdownBlockTags() throws Exception {
+		IPackageFragmentRoot sourceFolder = project.getPackageFragmentRoot(project.getProject().getFolder("src"));
+		IPackageFragment pack1 = sourceFolder.createPackageFragment("test1", false, null);
+		StringBuilder buf = new StringBuilder();
+		buf.append("package test1;\n");
+		buf.append("public class E {\n");
+		buf.append("   /**\n");
+		buf.append("    * Adds the {@code count} to\n");
+		buf.append("    * the total.\n");
+		buf.append("    *\n");
+		buf.append("    * @param count the number of\n");
+		buf.append("    *        items\n");
+		buf.append("    * @param label\n");
+		buf.append("    * @return the new total\n");
+		buf.append("    */\n");
+		buf.append("   public static int add(int count, String label) { return 0; }\n");
+		buf.append("   /**\n");
+		buf.append("    * Resets the total.\n");
+		buf.append("    * @return the {@literal previous} total\n");
+		buf.append("    */\n");
+		buf.append("   private int reset() { return 0; }\n");
+		buf.append("   /**\n");
+		buf.append("    * Sets the total.\n");
+		buf.append("    * @param total the new total\n");
+		buf.append("    * @see #reset()\n");
+		buf.append("    */\n");
+		buf.append("   public static void set(int total) { }\n");
+		buf.append("}\n");
+		ICompilationUnit cu = pack1.createCompilationUnit("E.java", buf.toString(), false, null);
+		IType type = cu.getType("E");
+
+		IMethod add = type.getMethod("add", new String[] { "I", "QString;" });
+		assertRenderedAsHTML("Adds the `count` to the total.\n\n *  **Parameters:**\n    \n     *  **count** the number of items\n     *  **label**\n *  **Returns:**\n    \n     *  the new total", add);
+		IMethod reset = type.getMethod("reset", new String[0]);
+		assertRenderedAsHTML("Resets the total.\n\n *  **Returns:**\n    \n     *  the previous total", reset);
+		IMethod set = type.getMethod("set", new String[] { "I" });
+		assertMatches("Sets the total\\.\n\n \\*  \\*\\*Parameters:\\*\\*\n    \n     \\*  \\*\\*total\\*\\* the new total\n \\*  \\*\\*See Also:\\*\\*\n    \n     \\*  \\[reset\\(\\)\\]\\(file:/.*/E\\.java#\\d+\\)", JavadocMarkdownRenderer.render(set));
+	}
+
+	@Test
+	public void testMarkdownInheritableMethods() throws Exception {
+		IPackageFragmentRoot sourceFolder = project.getPackageFragmentRoot(project.getProject().getFolder("src"));
+		IPackageFragment pack1 = sourceFolder.createPackageFragment("test1", false, null);
+		StringBuilder buf = new StringBuilder();
+		buf.append("package test1;\n");
+		buf.append("public class F {\n");
+		buf.append("   public static class Failure extends Exception { }\n");
+		buf.append("   /**\n");
+		buf.append("    * Computes the value.\n");
+		buf.append("    * @param input the input\n");
+		buf.append("    * @return the value\n");
+		buf.append("    * @throws Failure if it fails\n");
+		buf.append("    */\n");
+		buf.append("   public int compute(String input) throws Failure { return 0; }\n");
+		buf.append("   /**\n");
+		buf.append("    * Computes the value.\n");
+		buf.append("    * @param input the input\n");
+		buf.append("    */\n");
+		buf.append("   public int partial(String input) { return 0; }\n");
+		buf.append("   /**\n");
+		buf.append("    * {@inheritDoc}\n");
+		buf.append("    */\n");
+		buf.append("   @Override\n");
+		buf.append("   public String toString() { return \"\"; }\n");
+		buf.append("}\n");
+		ICompilationUnit cu = pack1.createCompilationUnit("F.java", buf.toString(), false, null);
+		IType type = cu.getType("F");
+
+		// a complete Javadoc doesn't inherit anything
+		String markdown = JavadocMarkdownRenderer.render(type.getMethod("compute", new String[] { "QString;" }));
+		assertMatches("Computes the value\\.\n\n \\*  \\*\\*Parameters:\\*\\*\n    \n     \\*  \\*\\*input\\*\\* the input\n \\*  \\*\\*Returns:\\*\\*\n    \n     \\*  the value\n \\*  \\*\\*Throws:\\*\\*\n    \n     \\*  \\[Failure\\]\\(file:/.*/F\\.java#3\\) if it fails", markdown);
+		// the missing return and the inherited documentation are looked up in the super types
+		assertNull(JavadocMarkdownRenderer.render(type.getMethod("partial", new String[] { "QString;" })));
+		assertNull(JavadocMarkdownRenderer.render(type.getMethod("toString", new String[0])));
+	}
+
+	@Test
+	public void testMarkdownEscaping() throws Exception {
+		IPackageFragmentRoot sourceFolder = project.getPackageFragmentRoot(project.getProject().getFolder("src"));
+		IPackageFragment pack1 = sourceFolder.createPackageFragment("test1", false, null);
+		StringBuilder buf = new StringBuilder();
+		buf.append("package test1;\n");
+		buf.append("public class G {\n");
+		buf.append("   /**\n");
+		buf.append("    * Uses a*b_c with [brackets] and `ticks`, &lt;T&gt; and &amp;amp;.\n");
+		buf.append("    * @return 1. the first\n");
+		buf.append("    */\n");
+		buf.append("   private int escaped() { return 0; }\n");
+		buf.append("   /**\n");
+		buf.append("    * See {@linkplain #escaped() the escaped one} and {@link Missing}.\n");
+		buf.append("    */\n");
+		buf.append("   private void links() { }\n");
+		buf.append("   /**\n");
+		buf.append("    * Uses <b>bold</b> text.\n");
+		buf.append("    */\n");
+		buf.append("   private void html() { }\n");
+		buf.append("}\n");
+		ICompilationUnit cu = pack1.createCompilationUnit("G.java", buf.toString(), false, null);
+		IType type = cu.getType("G");
+
+		assertEquals("Uses a\\*b\\_c with \\[brackets\\] and \\`ticks\\`, \\<T\\> and \\&amp;.\n\n *  **Returns:**\n    \n     *  1\\. the first", JavadocMarkdownRenderer.render(type.getMethod("escaped", new String[0])));
+		assertMatches("See \\[the escaped one\\]\\(file:/.*/G\\.java#7\\) and Missing\\.", JavadocMarkdownRenderer.render(type.getMethod("links", new String[0])));
+		// the Javadoc embedding HTML is converted from HTML
+		assertNull(JavadocMarkdownRenderer.render(type.getMethod("html", new String[0])));
+	}
+
+	private static void assertRenderedAsHTML(String expected, IMethod method) throws Exception {
+		String markdown = JavadocMarkdownRenderer.render(method);
+		assertEquals(expected, markdown);
+		assertEquals(ResourceUtils.dos2Unix(JavadocContentAccess2.getHTMLMarkdownContent(method)), markdown);
+	}
 }
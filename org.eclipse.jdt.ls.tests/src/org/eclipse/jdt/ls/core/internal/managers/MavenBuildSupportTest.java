@@ -24,6 +24,8 @@ import static org.junit.Assert.fail;
 
 import java.io.File;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.Set;
 
@@ -91,6 +93,24 @@ public class MavenBuildSupportTest extends AbstractMavenBasedTest {
 		assertNoErrors(project);
 	}
 
+	@Test
+	public void testUpdateRefreshesNewSourceFolder() throws Exception {
+		IProject project = importSimpleJavaProject();
+		project.getFolder("src/main/other").create(true, true, monitor);
+		// created outside of the workspace, so only a refresh makes it visible
+		File otherFile = new File(project.getLocation().toFile(), "src/main/other/foo/Other.java");
+		otherFile.getParentFile().mkdirs();
+		FileUtils.writeStringToFile(otherFile, "package foo;\npublic class Other {}\n", StandardCharsets.UTF_8);
+
+		URI pomUri = project.getFile("pom.xml").getRawLocationURI();
+		setContent(pomUri, getContent(pomUri).replace("<build>", "<build>\n\t\t<sourceDirectory>src/main/other</sourceDirectory>"));
+		projectsManager.updateProjects(Collections.singleton(project), false).join();
+		waitForBackgroundJobs();
+
+		assertTrue(project.getFile("src/main/other/foo/Other.java").exists());
+		assertNotNull(JavaCore.create(project).findType("foo.Other"));
+	}
+
 	@Test
 	public void testCompileWithErrorProne() throws Exception {
 		testNonStandardCompilerId("compile-with-error-prone");
@@ -0,0 +1,52 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal.managers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.eclipse.core.runtime.Path;
+import org.junit.Test;
+
+public class PathTreeTest {
+
+	@Test
+	public void testContainedPathIsNotAdded() {
+		PathTree tree = new PathTree();
+		assertTrue(tree.add(new Path("/home/project/src")));
+		assertFalse(tree.add(new Path("/home/project/src/main/java")));
+		assertFalse(tree.add(new Path("/home/project/src")));
+		assertEquals(Arrays.asList(new Path("/home/project/src")), tree.getPaths());
+	}
+
+	@Test
+	public void testContainingPathReplacesContainedPaths() {
+		PathTree tree = new PathTree();
+		tree.add(new Path("/home/project/src/main/java"));
+		tree.add(new Path("/home/project/src/test/java"));
+		tree.add(new Path("/home/other/lib"));
+		assertTrue(tree.add(new Path("/home/project")));
+		assertEquals(Arrays.asList(new Path("/home/project"), new Path("/home/other/lib")), tree.getPaths());
+	}
+
+	@Test
+	public void testSiblingsWithCommonPrefix() {
+		PathTree tree = new PathTree();
+		tree.add(new Path("/home/project/src"));
+		tree.add(new Path("/home/project/src-gen"));
+		assertEquals(Arrays.asList(new Path("/home/project/src"), new Path("/home/project/src-gen")), tree.getPaths());
+	}
+}
@@ -0,0 +1,116 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ls.core.internal.managers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.FileUtils;
+import org.eclipse.jdt.ls.core.internal.managers.SourceDiscoveryStore.Result;
+import org.eclipse.m2e.core.embedder.ArtifactKey;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the results of the source discovery remembered across sessions.
+ */
+public class SourceDiscoveryStoreTest {
+
+	private static final ArtifactKey ARTIFACT = new ArtifactKey("org.sample", "sample", "1.0", null);
+
+	private Path folder;
+
+	private File storeFile;
+
+	@Before
+	public void setup() throws IOException {
+		folder = Files.createTempDirectory("sourceDiscoveryStoreTest");
+		storeFile = folder.resolve("state/sourceDiscovery").toFile();
+	}
+
+	@After
+	public void cleanUp() throws IOException {
+		FileUtils.deleteDirectory(folder.toFile());
+	}
+
+	@Test
+	public void testRoundTrip() throws Exception {
+		File identified = createJar("identified.jar");
+		File unidentified = createJar("unidentified.jar");
+		SourceDiscoveryStore store = new SourceDiscoveryStore(storeFile);
+		store.put(identified, ARTIFACT);
+		store.put(unidentified, null);
+		store.flush();
+
+		assertTrue(storeFile.exists());
+		assertFalse(new File(storeFile.getPath() + ".tmp").exists());
+		SourceDiscoveryStore loaded = new SourceDiscoveryStore(storeFile);
+		Result result = loaded.get(identified);
+		assertNotNull(result);
+		assertEquals(ARTIFACT, result.artifact());
+		result = loaded.get(unidentified);
+		assertNotNull(result);
+		assertNull(result.artifact());
+		assertNull(loaded.get(createJar("unknown.jar")));
+	}
+
+	@Test
+	public void testSavedOnFlush() throws Exception {
+		File jar = createJar("sample.jar");
+		SourceDiscoveryStore store = new SourceDiscoveryStore(storeFile);
+		store.put(jar, ARTIFACT);
+
+		assertFalse(storeFile.exists());
+		assertNull(new SourceDiscoveryStore(storeFile).get(jar));
+		store.flush();
+		assertNotNull(new SourceDiscoveryStore(storeFile).get(jar));
+	}
+
+	@Test
+	public void testChangedJar() throws Exception {
+		File jar = createJar("sample.jar");
+		SourceDiscoveryStore store = new SourceDiscoveryStore(storeFile);
+		store.put(jar, ARTIFACT);
+		assertNotNull(store.get(jar));
+
+		assertTrue(jar.setLastModified(jar.lastModified() - TimeUnit.HOURS.toMillis(1)));
+		assertNull(store.get(jar));
+	}
+
+	@Test
+	public void testExpiry() {
+		long now = System.currentTimeMillis();
+		Result identified = new Result(0L, now, ARTIFACT);
+		assertFalse(identified.isExpired(now + TimeUnit.DAYS.toMillis(29)));
+		assertTrue(identified.isExpired(now + TimeUnit.DAYS.toMillis(31)));
+		Result unidentified = new Result(0L, now, null);
+		assertFalse(unidentified.isExpired(now + TimeUnit.HOURS.toMillis(23)));
+		assertTrue(unidentified.isExpired(now + TimeUnit.HOURS.toMillis(25)));
+	}
+
+	private File createJar(String name) throws IOException {
+		File jar = folder.resolve(name).toFile();
+		Files.writeString(jar.toPath(), name);
+		return jar;
+	}
+}